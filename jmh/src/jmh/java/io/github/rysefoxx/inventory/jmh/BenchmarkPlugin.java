@@ -0,0 +1,64 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.jmh;
+
+import io.github.rysefoxx.inventory.plugin.pagination.InventoryManager;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.plugin.java.JavaPluginLoader;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+
+/**
+ * Plugin that owns the inventories of the benchmarks. It is created with the initialization constructor of
+ * {@link JavaPlugin} that is meant for plugins that are not loaded by the server.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/17/2026
+ */
+final class BenchmarkPlugin extends JavaPlugin {
+
+    private final InventoryManager inventoryManager = new InventoryManager(this);
+
+    @SuppressWarnings("deprecation")
+    BenchmarkPlugin(@NotNull StubServer server) {
+        super(new JavaPluginLoader(server.getServer()),
+                new PluginDescriptionFile("RyseInventory-JMH", "1.0", BenchmarkPlugin.class.getName()),
+                new File("build/jmh-plugin"),
+                new File("build/jmh-plugin.jar"));
+    }
+
+    @Override
+    public void onEnable() {
+        this.inventoryManager.invoke();
+    }
+
+    @NotNull
+    InventoryManager getInventoryManager() {
+        return this.inventoryManager;
+    }
+}
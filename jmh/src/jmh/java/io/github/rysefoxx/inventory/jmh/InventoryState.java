@@ -0,0 +1,184 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.jmh;
+
+import io.github.rysefoxx.inventory.plugin.content.IntelligentItem;
+import io.github.rysefoxx.inventory.plugin.content.InventoryContents;
+import io.github.rysefoxx.inventory.plugin.content.InventoryProvider;
+import io.github.rysefoxx.inventory.plugin.enums.Action;
+import io.github.rysefoxx.inventory.plugin.enums.DisabledInventoryClick;
+import io.github.rysefoxx.inventory.plugin.pagination.InventoryManager;
+import io.github.rysefoxx.inventory.plugin.pagination.Pagination;
+import io.github.rysefoxx.inventory.plugin.pagination.RyseInventory;
+import io.github.rysefoxx.inventory.plugin.pagination.SlotIterator;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.InventoryView;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A paginated inventory that is opened for one player of the {@link StubServer}. Every slot of every page holds an
+ * item with a click consumer, unless {@link #ignoredSlots} leaves every second slot empty as an ignored slot.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/17/2026
+ */
+@State(Scope.Thread)
+public class InventoryState {
+
+    /**
+     * The number of rows of the inventory.
+     */
+    @Param({"1", "3", "6"})
+    public int rows;
+
+    /**
+     * The number of pages of the pagination.
+     */
+    @Param({"1", "10", "100"})
+    public int pages;
+
+    /**
+     * Whether every second slot is an ignored slot without a consumer. Items can then be dragged into these slots and
+     * moved into them from the lower inventory, which is enabled as well.
+     */
+    @Param({"false", "true"})
+    public boolean ignoredSlots;
+
+    StubServer server;
+    InventoryManager.InventoryListener listener;
+    Player player;
+    RyseInventory inventory;
+    InventoryContents contents;
+    InventoryView view;
+    Map<Integer, ItemStack> dragSlots;
+    ItemStack cursor;
+    int size;
+    int moveSlot;
+
+    private int[] ignored;
+    private int slot;
+    private int page;
+    private int moves;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.server = StubServer.get();
+        this.player = this.server.addPlayer("Benchmark");
+        this.size = this.rows * 9;
+        this.cursor = new ItemStack(Material.DIRT);
+        this.moveSlot = this.size;
+        this.ignored = new int[this.ignoredSlots ? (this.size + 1) / 2 : 0];
+        for (int i = 0; i < this.ignored.length; i++)
+            this.ignored[i] = i * 2;
+
+        BenchmarkPlugin plugin = new BenchmarkPlugin(this.server);
+        plugin.onEnable();
+
+        InventoryManager manager = plugin.getInventoryManager();
+        this.listener = manager.new InventoryListener();
+
+        int itemsPerPage = this.size - this.ignored.length;
+
+        RyseInventory.Builder builder = RyseInventory.builder()
+                .title("Benchmark")
+                .rows(this.rows)
+                .disableUpdateTask()
+                .provider(new InventoryProvider() {
+                    @Override
+                    public void init(Player player, InventoryContents contents) {
+                        Pagination pagination = contents.pagination();
+                        pagination.setItemsPerPage(itemsPerPage);
+                        pagination.iterator(SlotIterator.builder()
+                                .startPosition(0)
+                                .type(SlotIterator.SlotIteratorType.HORIZONTAL)
+                                .blackList(ignored)
+                                .build());
+
+                        for (int i = 0; i < itemsPerPage * pages; i++)
+                            pagination.addItem(IntelligentItem.of(new ItemStack(Material.STONE), event -> {
+                            }));
+                    }
+                });
+
+        if (this.ignoredSlots) {
+            builder.ignoredSlots(this.ignored)
+                    .ignoreClickEvent(DisabledInventoryClick.BOTTOM)
+                    .enableAction(Action.MOVE_TO_OTHER_INVENTORY);
+        }
+
+        this.inventory = builder.build(plugin);
+
+        this.inventory.open(this.player);
+        this.contents = manager.getContents(this.player.getUniqueId()).orElseThrow(IllegalStateException::new);
+        this.view = this.player.getOpenInventory();
+
+        this.dragSlots = new HashMap<>();
+        this.dragSlots.put(0, this.cursor);
+        this.dragSlots.put(this.ignoredSlots ? this.ignored[this.ignored.length - 1] : this.size - 1, this.cursor);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.inventory.close(this.player);
+    }
+
+    /**
+     * @return The next slot of the inventory, starting again at the first slot after the last one.
+     */
+    int nextSlot() {
+        this.slot = (this.slot + 1) % this.size;
+        return this.slot;
+    }
+
+    /**
+     * Puts a full stack into the first slot of the lower inventory, so that it can be moved into the ignored slots.
+     * Once the stacks filled all ignored slots, they are emptied again, so every move finds a free slot.
+     *
+     * @return The raw slot of the stack.
+     */
+    int nextMove() {
+        if (this.ignored.length > 0 && this.moves++ % this.ignored.length == 0) {
+            for (int ignoredSlot : this.ignored)
+                this.view.getTopInventory().clear(ignoredSlot);
+        }
+
+        this.view.setItem(this.moveSlot, new ItemStack(Material.DIRT, 64));
+        return this.moveSlot;
+    }
+
+    /**
+     * @return The next page of the pagination, starting again at the first page after the last one.
+     */
+    int nextPage() {
+        this.page = (this.page + 1) % this.pages;
+        return this.page;
+    }
+}
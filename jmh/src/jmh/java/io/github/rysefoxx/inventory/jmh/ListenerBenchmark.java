@@ -0,0 +1,89 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.jmh;
+
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.InventoryAction;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.inventory.InventoryType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the {@link io.github.rysefoxx.inventory.plugin.pagination.InventoryManager.InventoryListener}. Clicks on
+ * items are handled by the click queue, so the server is ticked after every click to drain it. Drags that are not
+ * cancelled are passed on to the monitor handler, as the server would do.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/17/2026
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ListenerBenchmark {
+
+    @Benchmark
+    public InventoryClickEvent clickTopInventory(InventoryState state) {
+        InventoryClickEvent event = new InventoryClickEvent(state.view, InventoryType.SlotType.CONTAINER,
+                state.nextSlot(), ClickType.LEFT, InventoryAction.PICKUP_ALL);
+
+        state.listener.onInventoryClick(event);
+        state.server.tick();
+        return event;
+    }
+
+    @Benchmark
+    public InventoryClickEvent clickBottomInventory(InventoryState state) {
+        InventoryClickEvent event = new InventoryClickEvent(state.view, InventoryType.SlotType.CONTAINER,
+                state.size + state.nextSlot(), ClickType.LEFT, InventoryAction.PICKUP_ALL);
+
+        state.listener.onInventoryClick(event);
+        return event;
+    }
+
+    @Benchmark
+    public InventoryClickEvent shiftClickBottomInventory(InventoryState state) {
+        InventoryClickEvent event = new InventoryClickEvent(state.view, InventoryType.SlotType.CONTAINER,
+                state.nextMove(), ClickType.SHIFT_LEFT, InventoryAction.MOVE_TO_OTHER_INVENTORY);
+
+        state.listener.onInventoryClick(event);
+        return event;
+    }
+
+    @Benchmark
+    public InventoryDragEvent dragTopInventory(InventoryState state) {
+        InventoryDragEvent event = new InventoryDragEvent(state.view, null, state.cursor, false, state.dragSlots);
+
+        state.listener.onInventoryDrag(event);
+        if (!event.isCancelled())
+            state.listener.onInventoryDragDone(event);
+        return event;
+    }
+}
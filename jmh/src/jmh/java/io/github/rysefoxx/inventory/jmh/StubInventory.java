@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.jmh;
+
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Inventory of the {@link StubServer}. The items are stored in an array, every method that is not needed by the
+ * benchmarks returns a default value.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/17/2026
+ */
+final class StubInventory implements StubServer.Answer {
+
+    private final InventoryType type;
+    private final ItemStack[] items;
+    private final String title;
+
+    private StubInventory(@NotNull InventoryType type, int size, @NotNull String title) {
+        this.type = type;
+        this.items = new ItemStack[size];
+        this.title = title;
+    }
+
+    /**
+     * Creates a new inventory.
+     *
+     * @param inventoryClass The interface of the inventory, {@link Inventory} or one of its subinterfaces.
+     * @param type           The type of the inventory.
+     * @param size           The number of slots.
+     * @param title          The title of the inventory.
+     * @param <T>            The type of the inventory.
+     * @return The inventory.
+     */
+    static <T extends Inventory> @NotNull T create(@NotNull Class<T> inventoryClass,
+                                                   @NotNull InventoryType type,
+                                                   int size,
+                                                   @NotNull String title) {
+        return StubServer.proxy(inventoryClass, new StubInventory(type, size, title));
+    }
+
+    @Override
+    public Object answer(@NotNull String name, Object @NotNull [] args) {
+        switch (name) {
+            case "getSize":
+                return this.items.length;
+            case "getMaxStackSize":
+                return 64;
+            case "getType":
+                return this.type;
+            case "getName":
+            case "getTitle":
+                return this.title;
+            case "getItem":
+                return this.items[(Integer) args[0]];
+            case "setItem":
+                this.items[(Integer) args[0]] = (ItemStack) args[1];
+                return StubServer.DEFAULT;
+            case "getContents":
+                return this.items.clone();
+            case "setContents":
+                ItemStack[] contents = (ItemStack[]) args[0];
+                Arrays.fill(this.items, null);
+                System.arraycopy(contents, 0, this.items, 0, Math.min(contents.length, this.items.length));
+                return StubServer.DEFAULT;
+            case "clear":
+                if (args.length == 0)
+                    Arrays.fill(this.items, null);
+                else if (args.length == 1)
+                    this.items[(Integer) args[0]] = null;
+                return StubServer.DEFAULT;
+            case "firstEmpty":
+                for (int i = 0; i < this.items.length; i++) {
+                    if (this.items[i] == null) return i;
+                }
+                return -1;
+            default:
+                return StubServer.DEFAULT;
+        }
+    }
+}
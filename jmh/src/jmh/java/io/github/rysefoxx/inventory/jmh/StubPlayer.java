@@ -0,0 +1,152 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.jmh;
+
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryView;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+
+/**
+ * Player of the {@link StubServer}. The player keeps a player inventory, the opened inventory view and the item on the
+ * cursor, every other method returns a default value.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/17/2026
+ */
+final class StubPlayer implements StubServer.Answer {
+
+    private final UUID uniqueId;
+    private final int entityId;
+    private final String name;
+    private final PlayerInventory inventory;
+    private final Inventory craftingInventory;
+    private Player player;
+    private InventoryView openInventory;
+    private ItemStack cursor;
+
+    private StubPlayer(@NotNull UUID uniqueId, int entityId, @NotNull String name) {
+        this.uniqueId = uniqueId;
+        this.entityId = entityId;
+        this.name = name;
+        this.inventory = StubInventory.create(PlayerInventory.class, InventoryType.PLAYER, 36, "Inventory");
+        this.craftingInventory = StubInventory.create(Inventory.class, InventoryType.CRAFTING, 5, "Crafting");
+    }
+
+    /**
+     * Creates a new player who has no inventory opened.
+     *
+     * @param uniqueId The UUID of the player.
+     * @param entityId The entity id of the player.
+     * @param name     The name of the player.
+     * @return The player.
+     */
+    static @NotNull Player create(@NotNull UUID uniqueId, int entityId, @NotNull String name) {
+        StubPlayer stub = new StubPlayer(uniqueId, entityId, name);
+        stub.player = StubServer.proxy(Player.class, stub);
+        stub.openInventory = new View(stub.player, stub.craftingInventory, stub.inventory);
+        return stub.player;
+    }
+
+    @Override
+    public Object answer(@NotNull String name, Object @NotNull [] args) {
+        switch (name) {
+            case "getUniqueId":
+                return this.uniqueId;
+            case "getEntityId":
+                return this.entityId;
+            case "getName":
+            case "getDisplayName":
+                return this.name;
+            case "isOnline":
+            case "isValid":
+                return true;
+            case "getInventory":
+                return this.inventory;
+            case "getOpenInventory":
+                return this.openInventory;
+            case "openInventory":
+                if (args[0] instanceof InventoryView) {
+                    this.openInventory = (InventoryView) args[0];
+                } else {
+                    this.openInventory = new View(this.player, (Inventory) args[0], this.inventory);
+                }
+                return this.openInventory;
+            case "closeInventory":
+                this.openInventory = new View(this.player, this.craftingInventory, this.inventory);
+                return StubServer.DEFAULT;
+            case "getItemOnCursor":
+                return this.cursor;
+            case "setItemOnCursor":
+                this.cursor = (ItemStack) args[0];
+                return StubServer.DEFAULT;
+            default:
+                return StubServer.DEFAULT;
+        }
+    }
+
+    /**
+     * Inventory view of a player, made up of the opened inventory and the inventory of the player.
+     */
+    private static final class View extends InventoryView {
+
+        private final HumanEntity player;
+        private final Inventory topInventory;
+        private final Inventory bottomInventory;
+
+        private View(@NotNull HumanEntity player, @NotNull Inventory topInventory, @NotNull Inventory bottomInventory) {
+            this.player = player;
+            this.topInventory = topInventory;
+            this.bottomInventory = bottomInventory;
+        }
+
+        @Override
+        public @NotNull Inventory getTopInventory() {
+            return this.topInventory;
+        }
+
+        @Override
+        public @NotNull Inventory getBottomInventory() {
+            return this.bottomInventory;
+        }
+
+        @Override
+        public @NotNull HumanEntity getPlayer() {
+            return this.player;
+        }
+
+        @Override
+        public @NotNull InventoryType getType() {
+            return this.topInventory.getType();
+        }
+    }
+}
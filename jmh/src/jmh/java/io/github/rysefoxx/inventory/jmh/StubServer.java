@@ -0,0 +1,297 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.jmh;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.entity.Player;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemFactory;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.*;
+import java.util.logging.Logger;
+
+/**
+ * Bukkit server for the benchmarks. Only the parts of the server that are used when an inventory is opened and clicked
+ * are implemented, every other method returns a default value.
+ * <p>
+ * Tasks that are started with {@code runTask} are executed immediately, timers are executed by {@link #tick()}. Delayed
+ * tasks are never executed.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/17/2026
+ */
+final class StubServer {
+
+    /**
+     * Returned by an {@link Answer} if the default value of the method should be returned.
+     */
+    static final Object DEFAULT = new Object();
+
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+    private static StubServer instance;
+
+    private final Logger logger = Logger.getLogger("RyseInventory-JMH");
+    private final HashMap<UUID, Player> players = new HashMap<>();
+    private final List<Task> timers = new ArrayList<>();
+    private final Server server;
+    private int nextTaskId;
+
+    private StubServer() {
+        PluginManager pluginManager = proxy(PluginManager.class, (name, args) -> DEFAULT);
+        BukkitScheduler scheduler = proxy(BukkitScheduler.class, this::schedule);
+        ItemFactory itemFactory = proxy(ItemFactory.class, (name, args) -> {
+            switch (name) {
+                case "equals":
+                    return Objects.equals(args[0], args[1]);
+                case "isApplicable":
+                    return true;
+                case "asMetaFor":
+                    return args[0];
+                default:
+                    return DEFAULT;
+            }
+        });
+
+        this.server = proxy(Server.class, (name, args) -> {
+            switch (name) {
+                case "getName":
+                    return "StubServer";
+                case "getVersion":
+                case "getBukkitVersion":
+                    return "1.8.8-R0.1-SNAPSHOT";
+                case "getLogger":
+                    return this.logger;
+                case "getPluginManager":
+                    return pluginManager;
+                case "getScheduler":
+                    return scheduler;
+                case "getItemFactory":
+                    return itemFactory;
+                case "getOnlinePlayers":
+                    return Collections.unmodifiableCollection(this.players.values());
+                case "getPlayer":
+                    return args[0] instanceof UUID ? this.players.get(args[0]) : DEFAULT;
+                case "createInventory":
+                    return createInventory(args);
+                default:
+                    return DEFAULT;
+            }
+        });
+    }
+
+    /**
+     * Returns the server and sets it as the Bukkit server when it is called for the first time.
+     *
+     * @return The server.
+     */
+    static synchronized @NotNull StubServer get() {
+        if (instance == null) {
+            instance = new StubServer();
+            Bukkit.setServer(instance.server);
+        }
+        return instance;
+    }
+
+    /**
+     * Creates a new player that is online until the server is stopped.
+     *
+     * @param name The name of the player.
+     * @return The player.
+     */
+    @NotNull
+    Player addPlayer(@NotNull String name) {
+        Player player = StubPlayer.create(UUID.randomUUID(), this.players.size() + 1, name);
+        this.players.put(player.getUniqueId(), player);
+        return player;
+    }
+
+    /**
+     * Runs every timer once, like the server does once per tick.
+     */
+    void tick() {
+        for (int i = 0; i < this.timers.size(); i++) {
+            Task task = this.timers.get(i);
+            if (!task.cancelled)
+                task.runnable.run();
+        }
+        this.timers.removeIf(task -> task.cancelled);
+    }
+
+    @NotNull
+    Server getServer() {
+        return this.server;
+    }
+
+    private @NotNull Object createInventory(Object @NotNull [] args) {
+        String title = args.length > 2 ? (String) args[2] : "Chest";
+
+        if (args[1] instanceof InventoryType) {
+            InventoryType type = (InventoryType) args[1];
+            return StubInventory.create(Inventory.class, type, type.getDefaultSize(), title);
+        }
+
+        return StubInventory.create(Inventory.class, InventoryType.CHEST, (Integer) args[1], title);
+    }
+
+    private @NotNull Object schedule(@NotNull String name, Object @NotNull [] args) {
+        switch (name) {
+            case "runTask":
+            case "runTaskAsynchronously":
+                ((Runnable) args[1]).run();
+                return new Task((Plugin) args[0], ++this.nextTaskId, null);
+            case "runTaskLater":
+            case "runTaskLaterAsynchronously":
+                return new Task((Plugin) args[0], ++this.nextTaskId, null);
+            case "runTaskTimer":
+            case "runTaskTimerAsynchronously":
+                Task task = new Task((Plugin) args[0], ++this.nextTaskId, (Runnable) args[1]);
+                this.timers.add(task);
+                return task;
+            case "scheduleSyncDelayedTask":
+            case "scheduleSyncRepeatingTask":
+            case "scheduleAsyncDelayedTask":
+            case "scheduleAsyncRepeatingTask":
+                return ++this.nextTaskId;
+            case "cancelTask":
+                int taskId = (Integer) args[0];
+                this.timers.forEach(timer -> timer.cancelled |= timer.id == taskId);
+                return DEFAULT;
+            case "cancelTasks":
+            case "cancelAllTasks":
+                this.timers.forEach(timer -> timer.cancelled = true);
+                return DEFAULT;
+            default:
+                return DEFAULT;
+        }
+    }
+
+    /**
+     * Creates a proxy of the given interface. Methods of {@link Object} compare by identity, every other method is
+     * answered by the given answer.
+     *
+     * @param type   The interface to implement.
+     * @param answer The answer to the method calls.
+     * @param <T>    The type of the interface.
+     * @return The proxy.
+     */
+    static <T> @NotNull T proxy(@NotNull Class<T> type, @NotNull Answer answer) {
+        return type.cast(Proxy.newProxyInstance(StubServer.class.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        return type.getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+                }
+            }
+
+            Object result = answer.answer(method.getName(), args == null ? NO_ARGUMENTS : args);
+            return result == DEFAULT ? defaultValue(method) : result;
+        }));
+    }
+
+    private static Object defaultValue(@NotNull Method method) {
+        Class<?> type = method.getReturnType();
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == long.class) return 0L;
+        if (type == double.class) return 0D;
+        if (type == float.class) return 0F;
+        if (type == short.class) return (short) 0;
+        if (type == byte.class) return (byte) 0;
+        if (type == char.class) return (char) 0;
+        if (type == List.class || type == Collection.class) return Collections.emptyList();
+        if (type == Set.class) return Collections.emptySet();
+        if (type == Map.class) return Collections.emptyMap();
+        return null;
+    }
+
+    /**
+     * Answers the method calls of a proxy.
+     */
+    @FunctionalInterface
+    interface Answer {
+
+        /**
+         * @param name The name of the called method.
+         * @param args The arguments of the call.
+         * @return The result of the call or {@link #DEFAULT}.
+         */
+        Object answer(@NotNull String name, Object @NotNull [] args);
+    }
+
+    /**
+     * Task of the scheduler. Only timers are executed, by {@link #tick()}.
+     */
+    private static final class Task implements BukkitTask {
+
+        private final Plugin owner;
+        private final int id;
+        private final Runnable runnable;
+        private boolean cancelled;
+
+        private Task(@NotNull Plugin owner, int id, Runnable runnable) {
+            this.owner = owner;
+            this.id = id;
+            this.runnable = runnable;
+        }
+
+        @Override
+        public int getTaskId() {
+            return this.id;
+        }
+
+        @Override
+        public @NotNull Plugin getOwner() {
+            return this.owner;
+        }
+
+        @Override
+        public boolean isSync() {
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+        }
+    }
+}
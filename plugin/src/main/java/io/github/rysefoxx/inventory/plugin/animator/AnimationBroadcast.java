@@ -0,0 +1,174 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.animator;
+
+import io.github.rysefoxx.inventory.plugin.content.InventoryContents;
+import io.github.rysefoxx.inventory.plugin.pagination.RyseInventory;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.Nonnegative;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Shows the frames of an animation either to the player it was started for, or to all players of the inventory if
+ * the inventory broadcasts its animations. It also decides whether any of these players can currently see the
+ * animation.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/17/2026
+ * @see RyseInventory.Builder#broadcastAnimations()
+ */
+final class AnimationBroadcast {
+
+    private AnimationBroadcast() {
+    }
+
+    /**
+     * Creates the key under which a broadcast animation is registered. Animations of the same animator type, page,
+     * slot and identifier are the same animation.
+     *
+     * @param type       The type of the animator.
+     * @param page       The animated page or -1 for the title.
+     * @param slot       The animated slot or -1 for the title.
+     * @param identifier The identifier of the animator.
+     * @return The key of the animation.
+     */
+    static @NotNull Object key(@NotNull Class<?> type, int page, int slot, @Nullable Object identifier) {
+        return Arrays.asList(type, page, slot, identifier);
+    }
+
+    /**
+     * Returns true if the player of the contents has the inventory open with these contents.
+     *
+     * @param inventory The animated inventory.
+     * @param contents  The contents the animation was started with.
+     * @return true if the player is viewing the contents.
+     */
+    static boolean isViewing(@NotNull RyseInventory inventory, @NotNull InventoryContents contents) {
+        UUID uuid = contents.player().getUniqueId();
+        if (!inventory.getViewers().contains(uuid)) return false;
+
+        return inventory.getManager().getContents(uuid).orElse(null) == contents;
+    }
+
+    /**
+     * Returns true if an animated slot of the given page can be seen. If the animations are broadcast, this is the
+     * case as long as any player has the page open.
+     *
+     * @param inventory The animated inventory.
+     * @param contents  The contents the animation was started with.
+     * @param page      The page the animation was started on.
+     * @return true if the slot is visible.
+     */
+    static boolean isVisible(@NotNull RyseInventory inventory,
+                             @NotNull InventoryContents contents,
+                             @Nonnegative int page) {
+        if (!inventory.isBroadcastAnimations())
+            return isViewing(inventory, contents) && contents.pagination().page() == page;
+
+        for (UUID viewer : inventory.getViewers()) {
+            Optional<InventoryContents> viewerContents = inventory.getManager().getContents(viewer);
+            if (viewerContents.isPresent() && viewerContents.get().pagination().page() == page)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the animated title can be seen.
+     *
+     * @param inventory The animated inventory.
+     * @param player    The player the animation was started for.
+     * @return true if the title is visible.
+     */
+    static boolean isTitleVisible(@NotNull RyseInventory inventory, @NotNull Player player) {
+        if (inventory.isBroadcastAnimations())
+            return !inventory.getViewers().isEmpty();
+
+        return inventory.getViewers().contains(player.getUniqueId());
+    }
+
+    /**
+     * Updates the item in the slot. If the animations are broadcast, the item is updated for every player who has the
+     * page open. Every slot gets its own copy of the frame, so a changed item in a slot does not change the frame for
+     * later loops or other players.
+     *
+     * @param inventory The animated inventory.
+     * @param contents  The contents the animation was started with.
+     * @param page      The page the animation was started on.
+     * @param slot      The animated slot.
+     * @param itemStack The item of the frame.
+     */
+    static void update(@NotNull RyseInventory inventory,
+                       @NotNull InventoryContents contents,
+                       @Nonnegative int page,
+                       @Nonnegative int slot,
+                       @NotNull ItemStack itemStack) {
+        if (!inventory.isBroadcastAnimations()) {
+            contents.update(slot, itemStack.clone());
+            return;
+        }
+
+        for (UUID viewer : inventory.getViewers()) {
+            Optional<InventoryContents> viewerContents = inventory.getManager().getContents(viewer);
+            if (!viewerContents.isPresent()) continue;
+
+            InventoryContents target = viewerContents.get();
+            if (target.pagination().page() != page) continue;
+
+            target.update(slot, itemStack.clone());
+        }
+    }
+
+    /**
+     * Updates the title. If the animations are broadcast, the title is updated for every player of the inventory.
+     *
+     * @param inventory The animated inventory.
+     * @param player    The player the animation was started for.
+     * @param title     The title of the frame.
+     */
+    static void updateTitle(@NotNull RyseInventory inventory,
+                            @NotNull Player player,
+                            @NotNull String title) {
+        if (!inventory.isBroadcastAnimations()) {
+            inventory.updateTitle(player, title);
+            return;
+        }
+
+        for (UUID viewer : inventory.getViewers()) {
+            Player target = Bukkit.getPlayer(viewer);
+            if (target == null) continue;
+
+            inventory.updateTitle(target, title);
+        }
+    }
+}
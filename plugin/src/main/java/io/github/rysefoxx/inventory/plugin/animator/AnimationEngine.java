@@ -0,0 +1,169 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.animator;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nonnegative;
+import java.util.ArrayList;
+import java.util.logging.Level;
+
+/**
+ * Runs the animations of an inventory manager on a single Bukkit task, no matter how many animations are running.
+ * <p>
+ * The animations are kept in a timing wheel. Every bucket of the wheel holds the animations whose next run falls on a
+ * tick with the same remainder, so a tick only visits the animations of one bucket. Animations whose period is longer
+ * than the wheel stay in their bucket until their round has come.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/17/2026
+ */
+public final class AnimationEngine {
+
+    private static final int WHEEL_SIZE = 64;
+    private static final int MASK = WHEEL_SIZE - 1;
+
+    private final Plugin plugin;
+    @SuppressWarnings("unchecked")
+    private final ArrayList<AnimationTask>[] wheel = new ArrayList[WHEEL_SIZE];
+
+    private BukkitTask task;
+    private long tick;
+    private int size;
+    private int nextId;
+
+    @ApiStatus.Internal
+    public AnimationEngine(@NotNull Plugin plugin) {
+        this.plugin = plugin;
+
+        for (int i = 0; i < WHEEL_SIZE; i++)
+            this.wheel[i] = new ArrayList<>();
+    }
+
+    /**
+     * Starts the task that runs the due animations every tick.
+     */
+    @ApiStatus.Internal
+    public void start() {
+        if (this.task != null) return;
+        this.task = Bukkit.getScheduler().runTaskTimer(this.plugin, this::tick, 1, 1);
+    }
+
+    /**
+     * @return The number of animation tasks that are running.
+     */
+    public @Nonnegative int size() {
+        return this.size;
+    }
+
+    /**
+     * @return The plugin that owns the engine.
+     */
+    @NotNull
+    Plugin getPlugin() {
+        return this.plugin;
+    }
+
+    /**
+     * Adds a task to the wheel.
+     *
+     * @param task   The task to add.
+     * @param delay  The ticks to wait before the first run.
+     * @param period The ticks between two runs.
+     */
+    void schedule(@NotNull AnimationTask task, long delay, long period) {
+        task.taskId = ++this.nextId;
+        task.taskPeriod = Math.max(1, period);
+        task.nextRun = this.tick + Math.max(1, delay);
+
+        this.wheel[(int) (task.nextRun & MASK)].add(task);
+        this.size++;
+    }
+
+    /**
+     * Called by a task when it was cancelled.
+     */
+    void cancelled() {
+        this.size--;
+    }
+
+    /**
+     * Runs the tasks of the current bucket that are due in this tick, and moves them to the bucket of their next run.
+     * Cancelled tasks are removed from the bucket. A task that is not visible is moved to its next run without
+     * running, so it does not catch up on the skipped runs later.
+     */
+    private void tick() {
+        long now = ++this.tick;
+        ArrayList<AnimationTask> bucket = this.wheel[(int) (now & MASK)];
+
+        for (int i = 0; i < bucket.size(); ) {
+            AnimationTask task = bucket.get(i);
+
+            if (!task.isCancelled() && task.nextRun == now) {
+                run(task);
+                task.nextRun = now + task.taskPeriod;
+            }
+
+            if (task.isCancelled()) {
+                removeAt(bucket, i);
+                continue;
+            }
+
+            ArrayList<AnimationTask> next = this.wheel[(int) (task.nextRun & MASK)];
+            if (next != bucket) {
+                removeAt(bucket, i);
+                next.add(task);
+                continue;
+            }
+            i++;
+        }
+    }
+
+    private void run(@NotNull AnimationTask task) {
+        try {
+            if (task.isVisible())
+                task.run();
+        } catch (RuntimeException exception) {
+            this.plugin.getLogger().log(Level.SEVERE, "Error while running an animation", exception);
+        }
+    }
+
+    /**
+     * Removes the task at the given index by moving the last task of the bucket to its place.
+     *
+     * @param bucket The bucket to remove the task from.
+     * @param index  The index of the task.
+     */
+    private static void removeAt(@NotNull ArrayList<AnimationTask> bucket, int index) {
+        int last = bucket.size() - 1;
+        bucket.set(index, bucket.get(last));
+        bucket.remove(last);
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.animator;
+
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nonnegative;
+
+/**
+ * A repeating task of an animation. It is run by the {@link AnimationEngine} of the inventory manager instead of the
+ * Bukkit scheduler, so that all animations share a single Bukkit task.
+ * <p>
+ * Like a {@link org.bukkit.scheduler.BukkitRunnable}, the task can cancel itself from {@link #run()}.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/17/2026
+ */
+public abstract class AnimationTask implements Runnable, BukkitTask {
+
+    private AnimationEngine engine;
+    private boolean cancelled;
+
+    int taskId;
+    long taskPeriod;
+    long nextRun;
+
+    /**
+     * Schedules this task on the given engine.
+     *
+     * @param engine The engine that runs the task.
+     * @param delay  The ticks to wait before the first run. As with the scheduler, 0 runs the task in the next tick.
+     * @param period The ticks between two runs.
+     * @return This task.
+     * @throws IllegalStateException if the task was already scheduled.
+     */
+    public @NotNull AnimationTask runTaskTimer(@NotNull AnimationEngine engine,
+                                               @Nonnegative long delay,
+                                               @Nonnegative long period) throws IllegalStateException {
+        if (this.engine != null)
+            throw new IllegalStateException("The animation task was already scheduled.");
+
+        this.engine = engine;
+        engine.schedule(this, delay, period);
+        return this;
+    }
+
+    /**
+     * Returns true if the task is scheduled and was not cancelled.
+     *
+     * @return true if the task is still running.
+     */
+    public boolean isQueued() {
+        return this.engine != null && !this.cancelled;
+    }
+
+    /**
+     * Returns true if the task was cancelled.
+     *
+     * @return true if the task was cancelled.
+     */
+    public boolean isCancelled() {
+        return this.cancelled;
+    }
+
+    /**
+     * Returns the id of the task within its engine. The id is not known to the Bukkit scheduler.
+     *
+     * @return The id of the task.
+     */
+    @Override
+    public int getTaskId() {
+        return this.taskId;
+    }
+
+    @Override
+    public @NotNull Plugin getOwner() {
+        if (this.engine == null)
+            throw new IllegalStateException("The animation task was not scheduled yet.");
+
+        return this.engine.getPlugin();
+    }
+
+    @Override
+    public boolean isSync() {
+        return true;
+    }
+
+    /**
+     * Returns false while no player can see the animation. The engine skips the runs of a task that is not visible,
+     * so the animation pauses and continues with its next frame once it is visible again.
+     *
+     * @return true if the task should run.
+     */
+    protected boolean isVisible() {
+        return true;
+    }
+
+    /**
+     * Cancels the task. It is removed from the engine the next time the engine visits it.
+     */
+    @Override
+    public void cancel() {
+        if (this.cancelled) return;
+
+        this.cancelled = true;
+        if (this.engine != null)
+            this.engine.cancelled();
+    }
+}
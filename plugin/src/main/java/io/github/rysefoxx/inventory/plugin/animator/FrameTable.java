@@ -0,0 +1,115 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.animator;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.Nonnegative;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * The rendered frames of an animation, one entry per run of the animation task. An entry is null if the animation
+ * does not change anything in that run.
+ * <p>
+ * A looping animation continues at {@link #getLoopStart()} after the last frame, every other animation ends there.
+ *
+ * @param <T> The type of the frames.
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/17/2026
+ */
+final class FrameTable<T> {
+
+    private final Object[] frames;
+    private final int loopStart;
+
+    /**
+     * @param frames    The frames in the order in which they are played.
+     * @param loopStart The index at which a looping animation continues after the last frame, or -1 if the animation
+     *                  ends after the last frame.
+     */
+    FrameTable(@NotNull List<T> frames, int loopStart) {
+        this.frames = frames.toArray();
+        this.loopStart = loopStart;
+    }
+
+    private FrameTable(Object @NotNull [] frames, int loopStart) {
+        this.frames = frames;
+        this.loopStart = loopStart;
+    }
+
+    /**
+     * @return The number of frames.
+     */
+    @Nonnegative
+    int size() {
+        return this.frames.length;
+    }
+
+    /**
+     * @param index The index of the frame.
+     * @return The frame or null if the animation does not change anything in this run.
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    T get(@Nonnegative int index) {
+        return (T) this.frames[index];
+    }
+
+    /**
+     * Returns the index of the frame that follows the given one.
+     *
+     * @param index The index of the current frame.
+     * @return The index of the next frame, or -1 if the animation ends after the current frame.
+     */
+    int next(@Nonnegative int index) {
+        if (index + 1 < this.frames.length) return index + 1;
+        return this.loopStart;
+    }
+
+    /**
+     * Renders every frame into another type. Equal frames are only rendered once and share the result.
+     *
+     * @param renderer The function that renders a frame.
+     * @param <R>      The type of the rendered frames.
+     * @return The rendered table.
+     */
+    @SuppressWarnings("unchecked")
+    <R> @NotNull FrameTable<R> map(@NotNull Function<T, R> renderer) {
+        HashMap<T, R> rendered = new HashMap<>();
+        Object[] mapped = new Object[this.frames.length];
+
+        for (int i = 0; i < this.frames.length; i++) {
+            T frame = (T) this.frames[i];
+            if (frame == null) continue;
+
+            mapped[i] = rendered.computeIfAbsent(frame, renderer);
+        }
+        return new FrameTable<>(mapped, this.loopStart);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.animator;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * An animation task that plays a precompiled {@link FrameTable}. Each run shows the next frame, so nothing has to be
+ * built while the animation is running.
+ *
+ * @param <T> The type of the frames.
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/17/2026
+ */
+abstract class FrameTableTask<T> extends AnimationTask {
+
+    private final FrameTable<T> table;
+    private int frameIndex;
+
+    /**
+     * @param table The frames to play.
+     */
+    FrameTableTask(@NotNull FrameTable<T> table) {
+        this.table = table;
+    }
+
+    @Override
+    public final void run() {
+        if (this.frameIndex < 0 || this.frameIndex >= this.table.size()) {
+            finish();
+            return;
+        }
+
+        T frame = this.table.get(this.frameIndex);
+        this.frameIndex = this.table.next(this.frameIndex);
+
+        if (frame == null) return;
+        show(frame);
+    }
+
+    /**
+     * Shows a frame of the animation.
+     *
+     * @param frame The frame to show.
+     */
+    protected abstract void show(@NotNull T frame);
+
+    /**
+     * Called in the run after the last frame of an animation that does not loop.
+     */
+    protected abstract void finish();
+}
@@ -34,12 +34,10 @@ import io.github.rysefoxx.inventory.plugin.enums.TimeSetting;
 import io.github.rysefoxx.inventory.plugin.pagination.RyseInventory;
 import io.github.rysefoxx.inventory.plugin.util.StringConstants;
 import io.github.rysefoxx.inventory.plugin.util.TimeUtils;
-import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -47,6 +45,8 @@ import org.jetbrains.annotations.Nullable;
 
 import javax.annotation.Nonnegative;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -57,8 +57,10 @@ import java.util.Map;
  */
 public class IntelligentItemLoreAnimator {
 
+    private static final int MAX_COMBINED_FRAMES = 1024;
+
     private static Plugin plugin;
-    private final List<BukkitTask> tasks = new ArrayList<>();
+    private final List<AnimationTask> tasks = new ArrayList<>();
     private IntelligentItem intelligentItem;
     private HashMap<Integer, String> loreData = new HashMap<>();
     private HashMap<Character, IntelligentItemColor> frameColor = new HashMap<>();
@@ -70,6 +72,7 @@ public class IntelligentItemLoreAnimator {
     private List<String> lore;
     private RyseInventory inventory;
     private InventoryContents contents;
+    private int page;
     private ItemStack itemStack;
     private Object identifier;
 
@@ -80,15 +83,27 @@ public class IntelligentItemLoreAnimator {
     }
 
     /**
-     * This starts the animation for the item.
+     * This starts the animation for the item. If the inventory broadcasts its animations and the animation is already
+     * running for another player, this animator joins it.
      */
     public void animate() {
+        this.page = this.contents.pagination().page();
+
+        Object key = AnimationBroadcast.key(IntelligentItemLoreAnimator.class, this.page, this.slot, this.identifier);
+        AnimationTask running = this.inventory.getBroadcastAnimation(key);
+        if (running != null) {
+            this.tasks.add(running);
+            return;
+        }
+
         this.inventory.addLoreAnimator(this);
         animateByType();
+        this.inventory.addBroadcastAnimation(key, this.tasks.get(this.tasks.size() - 1));
     }
 
     /**
-     * This stops the animation for the item.
+     * This stops the animation for the item. If the inventory broadcasts its animations, the animation is stopped for
+     * all players who share it.
      *
      * @return true if the animation was stopped.
      */
@@ -97,312 +112,198 @@ public class IntelligentItemLoreAnimator {
             return false;
 
         this.tasks.stream()
-                .filter(task -> task != null && Bukkit.getScheduler().isQueued(task.getTaskId()))
-                .forEach(BukkitTask::cancel);
+                .filter(task -> task != null && task.isQueued())
+                .forEach(AnimationTask::cancel);
         return true;
     }
 
     /**
-     * If the type is FULL_WORD, animate by full word, if the type is WORD_BY_WORD, animate word by word, if the type is
-     * FLASH, animate with flash
+     * Compiles the animation of every animated lore line and combines them into one item per run, so that playing the
+     * animation only has to show the next item.
+     * <p>
+     * If the lines loop with periods that only meet after more than {@link #MAX_COMBINED_FRAMES} runs, the items are
+     * built while running instead, as keeping all of them would take too much memory.
      */
     private void animateByType() {
-        if (this.type == IntelligentItemAnimatorType.FULL_WORD) {
-            animateByFullWord();
-            return;
-        }
-        if (this.type == IntelligentItemAnimatorType.WORD_BY_WORD) {
-            animateWordByWord();
-            return;
-        }
-        if (this.type == IntelligentItemAnimatorType.FLASH) {
-            animateWithFlash();
-        }
-    }
+        int[] lines = new int[this.loreData.size()];
+        List<FrameTable<String>> tables = new ArrayList<>(this.loreData.size());
 
-    /**
-     * It loops through each frame of each line of lore, and updates the lore with the current frame
-     */
-    private void animateWithFlash() {
+        int i = 0;
         for (Map.Entry<Integer, String> entry : this.loreData.entrySet()) {
-            BukkitTask bukkitTask = Bukkit.getScheduler().runTaskTimer(plugin, new Runnable() {
-                final HashMap<Integer, String> framesCopy = loreData;
+            lines[i++] = entry.getKey();
+            tables.add(compileLine(entry.getKey(), entry.getValue()));
+        }
 
-                int subStringIndex = 0;
-                int colorState = 0;
-                int currentFrameIndex = 0;
+        String[] baseLore = this.lore.toArray(new String[0]);
+        FrameTable<List<String>> combined = combine(lines, tables, baseLore);
 
+        AnimationTask task;
+        if (combined != null) {
+            task = new FrameTableTask<ItemStack>(combined.map(this::withLore)) {
                 @Override
-                public void run() {
-                    int loreIndex = entry.getKey();
-                    String frame = framesCopy.get(loreIndex);
-                    char[] currentFrames = frame.toCharArray();
-
-                    resetWhenFrameFinished(loreIndex, currentFrames);
-
-                    if (cancelIfListIsEmpty()) return;
-
-                    char singleFrame = currentFrames[this.colorState];
-                    IntelligentItemColor itemColor = frameColor.get(singleFrame);
-
-                    String currentLore = buildLore(loreIndex, itemColor);
+                protected void show(@NotNull ItemStack frame) {
+                    AnimationBroadcast.update(inventory, contents, page, slot, frame);
+                }
 
-                    this.colorState++;
-                    this.subStringIndex++;
-                    updateLore(contents, currentLore, loreIndex);
+                @Override
+                protected void finish() {
+                    inventory.removeLoreAnimator(IntelligentItemLoreAnimator.this);
                 }
 
-                @NotNull
-                private String buildLore(@Nonnegative int loreIndex, @NotNull IntelligentItemColor itemColor) {
-                    return itemColor.getColor()
-                            + (itemColor.isBold() ? "§l" : "")
-                            + (itemColor.isUnderline() ? "§n" : "")
-                            + (itemColor.isItalic() ? "§o" : "")
-                            + (itemColor.isObfuscated() ? "§k" : "")
-                            + (itemColor.isStrikeThrough() ? "§m" : "")
-                            + ChatColor.stripColor(lore.get(loreIndex));
+                @Override
+                protected boolean isVisible() {
+                    return AnimationBroadcast.isVisible(inventory, contents, page);
                 }
+            };
+        } else {
+            task = new AnimationTask() {
+                final int[] frameIndexes = new int[lines.length];
+                final String[] currentLore = baseLore.clone();
 
-                private boolean cancelIfListIsEmpty() {
-                    if (this.framesCopy.isEmpty()) {
+                @Override
+                public void run() {
+                    if (!isRunning(tables, this.frameIndexes)) {
                         inventory.removeLoreAnimator(IntelligentItemLoreAnimator.this);
-                        return true;
+                        return;
                     }
-                    return false;
-                }
-
-                private void resetWhenFrameFinished(@Nonnegative int loreIndex, char @NotNull [] currentFrames) {
-                    if (this.subStringIndex < currentFrames.length) return;
-
-                    if (!loop)
-                        this.framesCopy.remove(loreIndex);
-                    this.colorState = 0;
-                    this.subStringIndex = 0;
 
-                    if (this.currentFrameIndex + 1 < this.framesCopy.size()) return;
-                    this.currentFrameIndex = 0;
+                    if (step(lines, tables, this.frameIndexes, this.currentLore))
+                        AnimationBroadcast.update(inventory, contents, page, slot, withLore(Arrays.asList(this.currentLore)));
                 }
 
-            }, this.delay, this.period);
-            this.tasks.add(bukkitTask);
+                @Override
+                protected boolean isVisible() {
+                    return AnimationBroadcast.isVisible(inventory, contents, page);
+                }
+            };
         }
+        this.tasks.add(task.runTaskTimer(this.inventory.getManager().getAnimationEngine(), this.delay, this.period));
     }
 
     /**
-     * It takes a list of frames, and animates them by coloring each letter of the lore
+     * Combines the animations of the lines into the complete lore of every run. A looping animation is combined until
+     * the lines reach a state they were already in, an animation that does not loop until every line has finished.
+     *
+     * @param lines    The lore index of every animated line.
+     * @param tables   The compiled animation of every animated line.
+     * @param baseLore The lore of the item before the animation.
+     * @return The lore of every run, or null if there are more than {@link #MAX_COMBINED_FRAMES} runs.
      */
-    private void animateByFullWord() {
-        for (Map.Entry<Integer, String> entry : this.loreData.entrySet()) {
-            BukkitTask bukkitTask = Bukkit.getScheduler().runTaskTimer(plugin, new Runnable() {
-                final HashMap<Integer, String> framesCopy = loreData;
-                final List<String> previous = new ArrayList<>();
-
-                int colorState = 0;
-                int subStringIndex = 0;
-                int currentFrameIndex = 0;
-
-                @Override
-                public void run() {
-                    int loreIndex = entry.getKey();
-                    String frame = framesCopy.get(loreIndex);
-                    String currentLoreFixed = lore.get(loreIndex);
-
-                    String currentLore = lore.get(loreIndex);
-                    char[] letters = currentLore.toCharArray();
-                    char[] currentFrames = frame.toCharArray();
-
-                    resetWhenFrameFinished(letters);
-
-                    if (cancelIfListIsEmpty()) return;
-
-                    if (this.colorState >= currentFrames.length)
-                        this.colorState = 0;
-
-                    char singleFrame = currentFrames[this.colorState];
-                    IntelligentItemColor itemColor = frameColor.get(singleFrame);
-
-                    String letter = String.valueOf(letters[this.subStringIndex]);
-                    String rest = currentLoreFixed.substring(this.subStringIndex + 1);
-                    boolean addColor = !letter.equals(" ");
-
-                    StringBuilder newString = buildLoreBasedOnPrevious(itemColor, letter);
-
-                    currentLore = newString
-                            .append(ChatColor.WHITE).append(rest)
-                            .toString();
-
-                    this.previous.add(newString.toString());
-
-                    this.subStringIndex++;
-
-                    if (!addColor) return;
-
-                    this.colorState++;
-                    updateLore(contents, currentLore, loreIndex);
-                }
-
-                @NotNull
-                private StringBuilder buildLoreBasedOnPrevious(IntelligentItemColor itemColor, String letter) {
-                    StringBuilder newString = new StringBuilder();
-                    if (this.subStringIndex != 0)
-                        this.previous.forEach(newString::append);
-
-                    newString.append(itemColor.getColor())
-                            .append(itemColor.isBold() ? "§l" : "")
-                            .append(itemColor.isUnderline() ? "§n" : "")
-                            .append(itemColor.isItalic() ? "§o" : "")
-                            .append(itemColor.isObfuscated() ? "§k" : "")
-                            .append(itemColor.isStrikeThrough() ? "§m" : "")
-                            .append(letter);
-                    return newString;
-                }
-
-                private boolean cancelIfListIsEmpty() {
-                    if (this.framesCopy.isEmpty()) {
-                        inventory.removeLoreAnimator(IntelligentItemLoreAnimator.this);
-                        return true;
-                    }
-                    return false;
-                }
-
-                private void resetWhenFrameFinished(char @NotNull [] letters) {
-                    if (this.subStringIndex < letters.length) return;
-
-                    if (!loop)
-                        this.framesCopy.remove(0);
-                    this.colorState = 0;
-                    this.subStringIndex = 0;
-                    this.previous.clear();
+    private @Nullable FrameTable<List<String>> combine(int @NotNull [] lines,
+                                                       @NotNull List<FrameTable<String>> tables,
+                                                       String @NotNull [] baseLore) {
+        int[] frameIndexes = new int[lines.length];
+        String[] currentLore = baseLore.clone();
+        List<List<String>> frames = new ArrayList<>();
+        HashMap<List<Object>, Integer> states = new HashMap<>();
+
+        while (frames.size() <= MAX_COMBINED_FRAMES) {
+            if (!isRunning(tables, frameIndexes))
+                return new FrameTable<>(frames, -1);
+
+            if (this.loop) {
+                List<Object> state = new ArrayList<>(frameIndexes.length + currentLore.length);
+                for (int frameIndex : frameIndexes)
+                    state.add(frameIndex);
+                state.addAll(Arrays.asList(currentLore));
+
+                Integer start = states.putIfAbsent(state, frames.size());
+                if (start != null)
+                    return new FrameTable<>(frames, start);
+            }
 
-                    if (this.currentFrameIndex + 1 < this.framesCopy.size()) return;
-                    this.currentFrameIndex = 0;
-                }
-            }, this.delay, this.period);
-            this.tasks.add(bukkitTask);
+            boolean changed = step(lines, tables, frameIndexes, currentLore);
+            frames.add(changed ? Arrays.asList(currentLore.clone()) : null);
         }
+        return null;
     }
 
     /**
-     * It loops through each frame, and then loops through each letter in the frame, and then loops through each color in
-     * the frame, and then adds the color to the letter, and then adds the letter to the lore
+     * @param tables       The compiled animation of every animated line.
+     * @param frameIndexes The index of the next frame of every line.
+     * @return true if at least one line has frames left.
      */
-    private void animateWordByWord() {
-        for (Map.Entry<Integer, String> entry : this.loreData.entrySet()) {
-            BukkitTask bukkitTask = Bukkit.getScheduler().runTaskTimer(plugin, new Runnable() {
-                final HashMap<Integer, String> framesCopy = loreData;
-
-                int colorState = 0;
-                int subStringIndex = 0;
-                int currentFrameIndex = 0;
-                String currentLore = "";
-
-                @Override
-                public void run() {
-                    int loreIndex = entry.getKey();
-                    String frame = framesCopy.get(loreIndex);
-                    String savedLore = ChatColor.stripColor(lore.get(loreIndex));
-
-                    char[] currentFrames = frame.toCharArray();
-                    char[] letters = !this.currentLore.isEmpty() ? ChatColor.stripColor(lore.get(loreIndex)).toCharArray() : savedLore.toCharArray();
-
-                    resetWhenFrameFinished(letters);
-
-                    if (cancelWhenListIsEmpty()) return;
-
-                    currentFrames = updateFramesWhenRequired(currentFrames);
-                    String letter = String.valueOf(letters[this.subStringIndex]);
-                    boolean addColor = !letter.equals(" ");
-
-                    char singleFrame = currentFrames[this.colorState];
-                    IntelligentItemColor itemColor = frameColor.get(singleFrame);
-
-                    appendLetterToLore(letter, itemColor);
-
-                    this.subStringIndex++;
-
-                    if (!addColor) return;
-
-                    this.colorState++;
-                    updateLore(contents, this.currentLore, loreIndex);
-                }
-
-                private void appendLetterToLore(String letter, @NotNull IntelligentItemColor itemColor) {
-                    this.currentLore = this.currentLore +
-                            itemColor.getColor() +
-                            (itemColor.isBold() ? "§l" : "") +
-                            (itemColor.isUnderline() ? "§n" : "") +
-                            (itemColor.isItalic() ? "§o" : "") +
-                            (itemColor.isObfuscated() ? "§k" : "") +
-                            (itemColor.isStrikeThrough() ? "§m" : "") +
-                            letter;
-                }
-
-                private char @NotNull [] updateFramesWhenRequired(char @NotNull [] currentFrames) {
-                    if (this.colorState < currentFrames.length) return currentFrames;
-
-                    this.colorState = 0;
-                    if (this.framesCopy.size() > 1 && (this.currentFrameIndex + 1 != this.framesCopy.size())) {
-                        this.currentFrameIndex++;
-                        currentFrames = this.framesCopy.get(this.currentFrameIndex).toCharArray();
-                    }
-                    return currentFrames;
-                }
-
-                private boolean cancelWhenListIsEmpty() {
-                    if (this.framesCopy.isEmpty()) {
-                        inventory.removeLoreAnimator(IntelligentItemLoreAnimator.this);
-                        return true;
-                    }
-                    return false;
-                }
+    private static boolean isRunning(@NotNull List<FrameTable<String>> tables, int @NotNull [] frameIndexes) {
+        for (int line = 0; line < frameIndexes.length; line++) {
+            int frameIndex = frameIndexes[line];
+            if (frameIndex >= 0 && frameIndex < tables.get(line).size())
+                return true;
+        }
+        return false;
+    }
 
-                private void resetWhenFrameFinished(char @NotNull [] letters) {
-                    if (this.subStringIndex < letters.length) return;
+    /**
+     * Advances every line that has frames left by one frame and writes the new texts into the lore.
+     *
+     * @param lines        The lore index of every animated line.
+     * @param tables       The compiled animation of every animated line.
+     * @param frameIndexes The index of the next frame of every line.
+     * @param lore         The lore to write the texts into.
+     * @return true if the lore changed.
+     */
+    private static boolean step(int @NotNull [] lines,
+                                @NotNull List<FrameTable<String>> tables,
+                                int @NotNull [] frameIndexes,
+                                String @NotNull [] lore) {
+        boolean changed = false;
+        for (int line = 0; line < lines.length; line++) {
+            FrameTable<String> table = tables.get(line);
+            int frameIndex = frameIndexes[line];
+            if (frameIndex < 0 || frameIndex >= table.size()) continue;
+
+            String frame = table.get(frameIndex);
+            frameIndexes[line] = table.next(frameIndex);
+            if (frame == null) continue;
+
+            lore[lines[line]] = frame;
+            changed = true;
+        }
+        return changed;
+    }
 
-                    if (!loop)
-                        this.framesCopy.remove(0);
-                    this.colorState = 0;
-                    this.subStringIndex = 0;
-                    this.currentLore = "";
+    /**
+     * Creates a copy of the animated item with the given lore.
+     *
+     * @param lore The lore of the frame.
+     * @return The item of the frame.
+     */
+    private @NotNull ItemStack withLore(@NotNull List<String> lore) {
+        ItemStack itemStack = new ItemStack(this.itemStack);
 
-                    if (this.currentFrameIndex + 1 < this.framesCopy.size()) return;
-                    this.currentFrameIndex = 0;
-                }
-            }, this.delay, this.period);
-            this.tasks.add(bukkitTask);
-        }
+        ItemMeta itemMeta = itemStack.getItemMeta();
+        itemMeta.setLore(new ArrayList<>(lore));
+        itemStack.setItemMeta(itemMeta);
+        return itemStack;
     }
 
     /**
-     * It updates the lore of the item in the slot
+     * Compiles the animation of a single lore line.
      *
-     * @param contents The InventoryContents object that contains the current state of the inventory.
-     * @param lore     The new lore to set.
-     * @param index    The index of the lore to update.
+     * @param index The index of the lore line.
+     * @param frame The color frame of the lore line.
+     * @return The compiled animation of the line.
      */
-    private void updateLore(@NotNull InventoryContents contents,
-                            @NotNull String lore,
-                            @Nonnegative int index) {
-        ItemStack globalItemStack = this.itemStack;
+    private @NotNull FrameTable<String> compileLine(@Nonnegative int index, @NotNull String frame) {
+        String line = this.lore.get(index);
+        List<String> frames = Collections.singletonList(frame);
 
-        ItemMeta itemMeta = globalItemStack.getItemMeta();
-        List<String> currentLore = itemMeta.getLore() == null ? new ArrayList<>() : itemMeta.getLore();
-        currentLore.set(index, lore);
+        if (this.type == IntelligentItemAnimatorType.FULL_WORD)
+            return new TextFrames(this.type, line, frames, this.frameColor).compile(this.loop);
 
-        itemMeta.setLore(currentLore);
-        globalItemStack.setItemMeta(itemMeta);
+        TextFrames textFrames = new TextFrames(this.type, ChatColor.stripColor(line), frames, this.frameColor);
+        if (this.type == IntelligentItemAnimatorType.FLASH)
+            textFrames.passLength(frame.length());
 
-        contents.update(slot, globalItemStack);
-        this.itemStack = globalItemStack;
+        return textFrames.compile(this.loop);
     }
 
     /**
      * This function returns a list of tasks.
      *
-     * @return A list of BukkitTasks
+     * @return A list of AnimationTasks
      */
     @ApiStatus.Internal
-    public @NotNull List<BukkitTask> getTasks() {
+    public @NotNull List<AnimationTask> getTasks() {
         return this.tasks;
     }
 
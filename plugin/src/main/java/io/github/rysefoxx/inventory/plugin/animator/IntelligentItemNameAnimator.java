@@ -34,12 +34,10 @@ import io.github.rysefoxx.inventory.plugin.enums.TimeSetting;
 import io.github.rysefoxx.inventory.plugin.pagination.RyseInventory;
 import io.github.rysefoxx.inventory.plugin.util.StringConstants;
 import io.github.rysefoxx.inventory.plugin.util.TimeUtils;
-import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -63,10 +61,11 @@ public class IntelligentItemNameAnimator {
     private int period = 20;
     private int delay = 0;
     private int slot = -1;
-    private BukkitTask task;
+    private AnimationTask task;
     private boolean loop;
     private RyseInventory inventory;
     private InventoryContents contents;
+    private int page;
     private IntelligentItem intelligentItem;
     private String displayName;
     private Object identifier;
@@ -78,20 +77,32 @@ public class IntelligentItemNameAnimator {
     }
 
     /**
-     * This starts the animation for the item.
+     * This starts the animation for the item. If the inventory broadcasts its animations and the animation is already
+     * running for another player, this animator joins it.
      */
     public void animate() {
+        this.page = this.contents.pagination().page();
+
+        Object key = AnimationBroadcast.key(IntelligentItemNameAnimator.class, this.page, this.slot, this.identifier);
+        AnimationTask running = this.inventory.getBroadcastAnimation(key);
+        if (running != null) {
+            this.task = running;
+            return;
+        }
+
         this.inventory.addItemAnimator(this);
         animateByType();
+        this.inventory.addBroadcastAnimation(key, this.task);
     }
 
     /**
-     * This stops the animation for the item.
+     * This stops the animation for the item. If the inventory broadcasts its animations, the animation is stopped for
+     * all players who share it.
      *
      * @return true if the animation was stopped.
      */
     public boolean stop() {
-        if (this.task == null || !Bukkit.getScheduler().isQueued(this.task.getTaskId()))
+        if (this.task == null || !this.task.isQueued())
             return false;
 
         this.task.cancel();
@@ -99,290 +110,45 @@ public class IntelligentItemNameAnimator {
     }
 
     /**
-     * If the type is FULL_WORD, animate by full word, if the type is WORD_BY_WORD, animate word by word, if the type is
-     * FLASH, animate with flash
+     * Compiles the animation into one item per run and plays it. The items are built once here instead of in every
+     * run of the task.
      */
     private void animateByType() {
-        if (this.type == IntelligentItemAnimatorType.FULL_WORD) {
-            animateByFullWord();
-            return;
-        }
-        if (this.type == IntelligentItemAnimatorType.WORD_BY_WORD) {
-            animateWordByWord();
-            return;
-        }
-        if (this.type == IntelligentItemAnimatorType.FLASH) {
-            animateWithFlash();
-        }
-    }
-
-    /**
-     * It takes the frames, and loops through them, and then loops through the characters in the frame, and then loops
-     * through the characters in the display name, and then updates the display name with the current frame character
-     */
-    private void animateWithFlash() {
-        this.task = Bukkit.getScheduler().runTaskTimer(plugin, new Runnable() {
-            final char[] letters = ChatColor.stripColor(displayName).toCharArray();
-            final List<String> framesCopy = frames;
-            final String fixedDisplayName = ChatColor.stripColor(displayName);
-
-            int colorState = 0;
-            int subStringIndex = 0;
-            int currentFrameIndex = 0;
+        FrameTable<ItemStack> table = new TextFrames(this.type, ChatColor.stripColor(this.displayName), this.frames, this.frameColor)
+                .compile(this.loop)
+                .map(this::withDisplayName);
 
+        this.task = new FrameTableTask<ItemStack>(table) {
             @Override
-            public void run() {
-                resetWhenFrameFinished();
-
-                if (cancelIfListIsEmpty()) return;
-
-                char[] currentFrames = updateFramesWhenRequired();
-
-                char singleFrame = currentFrames[this.colorState];
-                IntelligentItemColor itemColor = frameColor.get(singleFrame);
-
-                String currentName = itemColor.getColor()
-                        + (itemColor.isBold() ? "§l" : "")
-                        + (itemColor.isUnderline() ? "§n" : "")
-                        + (itemColor.isItalic() ? "§o" : "")
-                        + (itemColor.isObfuscated() ? "§k" : "")
-                        + (itemColor.isStrikeThrough() ? "§m" : "")
-                        + this.fixedDisplayName;
-
-                this.colorState++;
-                this.subStringIndex++;
-                updateDisplayName(contents, currentName);
+            protected void show(@NotNull ItemStack frame) {
+                AnimationBroadcast.update(inventory, contents, page, slot, frame);
             }
 
-            private char @NotNull [] updateFramesWhenRequired() {
-                char[] currentFrames = framesCopy.get(this.currentFrameIndex).toCharArray();
-                if (this.colorState < currentFrames.length) return currentFrames;
-
-                this.colorState = 0;
-
-                if (this.framesCopy.size() > 1 && (this.currentFrameIndex + 1 != this.framesCopy.size())) {
-                    this.currentFrameIndex++;
-                    currentFrames = this.framesCopy.get(this.currentFrameIndex).toCharArray();
-                }
-                return currentFrames;
-            }
-
-            private boolean cancelIfListIsEmpty() {
-                if (this.framesCopy.isEmpty()) {
-                    inventory.removeItemAnimator(IntelligentItemNameAnimator.this);
-                    return true;
-                }
-                return false;
-            }
-
-            private void resetWhenFrameFinished() {
-                if (this.subStringIndex < this.letters.length) return;
-
-                if (!loop)
-                    this.framesCopy.remove(0);
-                this.colorState = 0;
-                this.subStringIndex = 0;
-
-                if (this.currentFrameIndex + 1 < this.framesCopy.size())
-                    return;
-                this.currentFrameIndex = 0;
-            }
-        }, this.delay, this.period);
-    }
-
-    /**
-     * It takes the frames and the display name, and then it loops through the frames and the display name, and then it
-     * updates the display name with the current frame and the current letter
-     */
-    private void animateByFullWord() {
-        this.task = Bukkit.getScheduler().runTaskTimer(plugin, new Runnable() {
-            final char[] letters = ChatColor.stripColor(displayName).toCharArray();
-            final List<String> framesCopy = frames;
-            final List<String> previous = new ArrayList<>();
-            final String currentNameFixed = ChatColor.stripColor(displayName);
-
-            int colorState = 0;
-            int subStringIndex = 0;
-            int currentFrameIndex = 0;
-
             @Override
-            public void run() {
-                resetWhenFrameFinished();
-
-                if (cancelIfListIsEmpty()) return;
-
-                char[] currentFrames = updateFramesWhenRequired();
-
-                char singleFrame = currentFrames[this.colorState];
-                IntelligentItemColor itemColor = frameColor.get(singleFrame);
-
-                String letter = String.valueOf(this.letters[this.subStringIndex]);
-                String rest = this.currentNameFixed.substring(this.subStringIndex + 1);
-                boolean addColor = !letter.equals(" ");
-
-                StringBuilder newString = new StringBuilder();
-                if (this.subStringIndex != 0)
-                    this.previous.forEach(newString::append);
-
-                newString.append(itemColor.getColor())
-                        .append(itemColor.isBold() ? "§l" : "")
-                        .append(itemColor.isUnderline() ? "§n" : "")
-                        .append(itemColor.isItalic() ? "§o" : "")
-                        .append(itemColor.isObfuscated() ? "§k" : "")
-                        .append(itemColor.isStrikeThrough() ? "§m" : "")
-                        .append(letter);
-
-                String currentName = newString
-                        .append(ChatColor.WHITE).append(rest)
-                        .toString();
-
-                this.previous.add(newString.toString());
-
-                this.subStringIndex++;
-
-                if (!addColor) return;
-
-                this.colorState++;
-                updateDisplayName(contents, currentName);
-            }
-
-            private boolean cancelIfListIsEmpty() {
-                if (this.framesCopy.isEmpty()) {
-                    inventory.removeItemAnimator(IntelligentItemNameAnimator.this);
-                    return true;
-                }
-                return false;
-            }
-
-            private char @NotNull [] updateFramesWhenRequired() {
-                char[] currentFrames = framesCopy.get(this.currentFrameIndex).toCharArray();
-
-                if (this.colorState < currentFrames.length) return currentFrames;
-
-                this.colorState = 0;
-                if (this.framesCopy.size() > 1 && (this.currentFrameIndex + 1 != this.framesCopy.size())) {
-                    this.currentFrameIndex++;
-                    currentFrames = this.framesCopy.get(this.currentFrameIndex).toCharArray();
-                }
-                return currentFrames;
-            }
-
-            private void resetWhenFrameFinished() {
-                if (this.subStringIndex < this.letters.length) return;
-
-                if (!loop)
-                    this.framesCopy.remove(0);
-                this.colorState = 0;
-                this.subStringIndex = 0;
-                this.previous.clear();
-
-                if (this.currentFrameIndex + 1 < this.framesCopy.size())
-                    return;
-
-                this.currentFrameIndex = 0;
+            protected void finish() {
+                inventory.removeItemAnimator(IntelligentItemNameAnimator.this);
             }
-        }, this.delay, this.period);
-    }
-
-    /**
-     * It takes the frames and the display name, and then it loops through the frames and the display name, and then it
-     * updates the display name with the current frame and the current letter
-     */
-    private void animateWordByWord() {
-        this.task = Bukkit.getScheduler().runTaskTimer(plugin, new Runnable() {
-            final char[] letters = ChatColor.stripColor(displayName).toCharArray();
-            final List<String> framesCopy = frames;
-
-            int colorState = 0;
-            int subStringIndex = 0;
-            int currentFrameIndex = 0;
-            String currentName = "";
 
             @Override
-            public void run() {
-                resetWhenFrameFinished();
-
-                if (cancelIfListIsEmpty()) return;
-
-                char[] currentFrames = updateFramesWhenRequired();
-
-                String letter = String.valueOf(this.letters[this.subStringIndex]);
-                boolean addColor = !letter.equals(" ");
-
-                char singleFrame = currentFrames[this.colorState];
-                IntelligentItemColor itemColor = frameColor.get(singleFrame);
-
-                this.currentName = this.currentName + itemColor.getColor()
-                        + (itemColor.isBold() ? "§l" : "")
-                        + (itemColor.isUnderline() ? "§n" : "")
-                        + (itemColor.isItalic() ? "§o" : "")
-                        + (itemColor.isObfuscated() ? "§k" : "")
-                        + (itemColor.isStrikeThrough() ? "§m" : "")
-                        + letter;
-
-                this.subStringIndex++;
-
-                if (!addColor) return;
-
-                this.colorState++;
-                updateDisplayName(contents, this.currentName);
+            protected boolean isVisible() {
+                return AnimationBroadcast.isVisible(inventory, contents, page);
             }
-
-            private char @NotNull [] updateFramesWhenRequired() {
-                char[] currentFrames = framesCopy.get(this.currentFrameIndex).toCharArray();
-                if (this.colorState < currentFrames.length) return currentFrames;
-
-                this.colorState = 0;
-                if (this.framesCopy.size() > 1 && (this.currentFrameIndex + 1 != this.framesCopy.size())) {
-                    this.currentFrameIndex++;
-                    currentFrames = this.framesCopy.get(this.currentFrameIndex).toCharArray();
-                }
-                return currentFrames;
-            }
-
-            private boolean cancelIfListIsEmpty() {
-                if (this.framesCopy.isEmpty()) {
-                    inventory.removeItemAnimator(IntelligentItemNameAnimator.this);
-                    return true;
-                }
-                return false;
-            }
-
-            private void resetWhenFrameFinished() {
-                if (this.subStringIndex < this.letters.length) return;
-
-                if (!loop)
-                    this.framesCopy.remove(0);
-                this.colorState = 0;
-                this.subStringIndex = 0;
-                this.currentName = "";
-
-                if (this.currentFrameIndex + 1 < this.framesCopy.size())
-                    return;
-
-                this.currentFrameIndex = 0;
-            }
-        }, this.delay, this.period);
+        }.runTaskTimer(this.inventory.getManager().getAnimationEngine(), this.delay, this.period);
     }
 
     /**
-     * "Update the display name of the item in the slot to the current name."
-     * <p>
-     * The first parameter is the `InventoryContents` object, which is used to update the item in the slot. The second
-     * parameter is the current name of the item
+     * Creates a copy of the animated item with the given display name.
      *
-     * @param contents    The InventoryContents object that contains all the items in the inventory.
-     * @param currentName The current name of the item.
+     * @param displayName The display name of the frame.
+     * @return The item of the frame.
      */
-    private void updateDisplayName(@NotNull InventoryContents contents,
-                                   @NotNull String currentName) {
-        ItemStack itemStack = new ItemStack(intelligentItem.getItemStack());
+    private @NotNull ItemStack withDisplayName(@NotNull String displayName) {
+        ItemStack itemStack = new ItemStack(this.intelligentItem.getItemStack());
 
         ItemMeta itemMeta = itemStack.getItemMeta();
-        itemMeta.setDisplayName(currentName);
+        itemMeta.setDisplayName(displayName);
         itemStack.setItemMeta(itemMeta);
-
-        contents.update(slot, itemStack);
+        return itemStack;
     }
 
     /**
@@ -391,7 +157,7 @@ public class IntelligentItemNameAnimator {
      * @return The task that is being run.
      */
     @ApiStatus.Internal
-    public @NotNull BukkitTask getTask() {
+    public @NotNull AnimationTask getTask() {
         return this.task;
     }
 
@@ -32,11 +32,9 @@ import io.github.rysefoxx.inventory.plugin.enums.TimeSetting;
 import io.github.rysefoxx.inventory.plugin.pagination.RyseInventory;
 import io.github.rysefoxx.inventory.plugin.util.StringConstants;
 import io.github.rysefoxx.inventory.plugin.util.TimeUtils;
-import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -59,12 +57,13 @@ public class IntelligentMaterialAnimator {
     private int period = 20;
     private int delay = 0;
     private int slot = -1;
-    private BukkitTask task;
+    private AnimationTask task;
     private boolean loop;
     private RyseInventory inventory;
     private IntelligentItem intelligentItem;
     private Object identifier;
     private InventoryContents contents;
+    private int page;
 
     @Contract("_ -> new")
     public static @NotNull Builder builder(@NotNull Plugin plugin) {
@@ -73,20 +72,32 @@ public class IntelligentMaterialAnimator {
     }
 
     /**
-     * This starts the animation for the item.
+     * This starts the animation for the item. If the inventory broadcasts its animations and the animation is already
+     * running for another player, this animator joins it.
      */
     public void animate() {
+        this.page = this.contents.pagination().page();
+
+        Object key = AnimationBroadcast.key(IntelligentMaterialAnimator.class, this.page, this.slot, this.identifier);
+        AnimationTask running = this.inventory.getBroadcastAnimation(key);
+        if (running != null) {
+            this.task = running;
+            return;
+        }
+
         this.inventory.addMaterialAnimator(this);
         animateItem();
+        this.inventory.addBroadcastAnimation(key, this.task);
     }
 
     /**
-     * This stops the animation for the item.
+     * This stops the animation for the item. If the inventory broadcasts its animations, the animation is stopped for
+     * all players who share it.
      *
      * @return true if the animation was stopped.
      */
     public boolean stop() {
-        if (this.task == null || !Bukkit.getScheduler().isQueued(this.task.getTaskId()))
+        if (this.task == null || !this.task.isQueued())
             return false;
 
         this.task.cancel();
@@ -99,7 +110,7 @@ public class IntelligentMaterialAnimator {
     private void animateItem() {
         int finalLength = getFrameLength();
 
-        this.task = Bukkit.getScheduler().runTaskTimer(plugin, new Runnable() {
+        this.task = new AnimationTask() {
             final List<String> framesCopy = frames;
             final ItemStack itemStack = new ItemStack(intelligentItem.getItemStack());
             int materialState = 0;
@@ -124,7 +135,7 @@ public class IntelligentMaterialAnimator {
                 this.subStringIndex++;
 
                 this.itemStack.setType(this.currentMaterial);
-                contents.update(slot, this.itemStack);
+                AnimationBroadcast.update(inventory, contents, page, slot, this.itemStack);
             }
 
             private char @NotNull [] updateFramesWhenRequired(char @NotNull [] currentFrames) {
@@ -160,7 +171,12 @@ public class IntelligentMaterialAnimator {
                 if (this.currentFrameIndex + 1 >= this.framesCopy.size())
                     this.currentFrameIndex = 0;
             }
-        }, this.delay, this.period);
+
+            @Override
+            protected boolean isVisible() {
+                return AnimationBroadcast.isVisible(inventory, contents, page);
+            }
+        }.runTaskTimer(this.inventory.getManager().getAnimationEngine(), this.delay, this.period);
     }
 
     /**
@@ -169,7 +185,7 @@ public class IntelligentMaterialAnimator {
      * @return The task that is being run.
      */
     @ApiStatus.Internal
-    public @NotNull BukkitTask getTask() {
+    public @NotNull AnimationTask getTask() {
         return this.task;
     }
 
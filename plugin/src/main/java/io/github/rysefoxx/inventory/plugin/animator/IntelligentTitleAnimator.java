@@ -34,11 +34,9 @@ import io.github.rysefoxx.inventory.plugin.pagination.RyseInventory;
 import io.github.rysefoxx.inventory.plugin.util.StringConstants;
 import io.github.rysefoxx.inventory.plugin.util.TimeUtils;
 import io.github.rysefoxx.inventory.plugin.util.VersionUtils;
-import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -48,7 +46,6 @@ import javax.annotation.Nonnegative;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Objects;
 
 /**
  * @author Rysefoxx(Rysefoxx # 6772)
@@ -64,7 +61,7 @@ public class IntelligentTitleAnimator {
     private IntelligentItemAnimatorType type = IntelligentItemAnimatorType.WORD_BY_WORD;
     private int period = 20;
     private int delay = 0;
-    private BukkitTask task;
+    private AnimationTask task;
     private boolean loop;
     private String title;
     private RyseInventory inventory;
@@ -78,20 +75,30 @@ public class IntelligentTitleAnimator {
 
     /**
      * @param player the player to send the title to.
-     *               This starts the animation for the item.
+     *               This starts the animation for the item. If the inventory broadcasts its animations and the
+     *               animation is already running for another player, this animator joins it.
      */
     public void animate(@NotNull Player player) {
+        Object key = AnimationBroadcast.key(IntelligentTitleAnimator.class, -1, -1, this.identifier);
+        AnimationTask running = this.inventory.getBroadcastAnimation(key);
+        if (running != null) {
+            this.task = running;
+            return;
+        }
+
         this.inventory.addTitleAnimator(this);
         animateByType(player);
+        this.inventory.addBroadcastAnimation(key, this.task);
     }
 
     /**
-     * This stops the animation for the item.
+     * This stops the animation for the item. If the inventory broadcasts its animations, the animation is stopped for
+     * all players who share it.
      *
      * @return true if the animation was stopped.
      */
     public boolean stop() {
-        if (this.task == null || !Bukkit.getScheduler().isQueued(this.task.getTaskId()))
+        if (this.task == null || !this.task.isQueued())
             return false;
 
         this.task.cancel();
@@ -99,301 +106,36 @@ public class IntelligentTitleAnimator {
     }
 
     /**
-     * If the type is FULL_WORD, animate by full word, if the type is WORD_BY_WORD, animate word by word, if the type is
-     * FLASH, animate with flash
+     * Compiles the animation into one title per run and plays it for the player. The titles are built once here
+     * instead of in every run of the task.
      *
-     * @param player The player to animate the item for.
+     * @param player The player to animate the title for.
      */
     private void animateByType(@NotNull Player player) {
-        if (this.type == IntelligentItemAnimatorType.FULL_WORD) {
-            animateByFullWord(player);
-            return;
-        }
+        TextFrames textFrames = new TextFrames(this.type, ChatColor.stripColor(this.title), this.frames, this.frameColor);
         if (this.type == IntelligentItemAnimatorType.WORD_BY_WORD) {
-            animateWordByWord(player);
-            return;
-        }
-        if (type == IntelligentItemAnimatorType.FLASH)
-            animateWithFlash(player);
-    }
-
-    /**
-     * It takes the frames and the title, and then it loops through the frames and the title, and then it updates the title
-     * with the current frame and the current letter
-     *
-     * @param player The player to animate the title for.
-     */
-    private void animateWithFlash(@NotNull Player player) {
-        this.task = Bukkit.getScheduler().runTaskTimer(plugin, new Runnable() {
-            final char[] letters = ChatColor.stripColor(title).toCharArray();
-            final List<String> framesCopy = frames;
-            final String fixedTitle = ChatColor.stripColor(title);
+            textFrames.formatsFirst();
 
-            int colorState = 0;
-            int subStringIndex = 0;
-            int currentFrameIndex = 0;
+            if (VersionUtils.isBelowAnd13())
+                textFrames.plain();
+        }
 
+        this.task = new FrameTableTask<String>(textFrames.compile(this.loop)) {
             @Override
-            public void run() {
-                resetWhenFrameFinished();
-
-                if (cancelIfListIsEmpty()) return;
-
-                char[] currentFrames = updateFramesWhenRequired();
-
-                char singleFrame = currentFrames[this.colorState];
-                IntelligentItemColor itemColor = frameColor.get(singleFrame);
-
-                String currentTitle =
-                        itemColor.getColor()
-                                + (itemColor.isBold() ? "§l" : "")
-                                + (itemColor.isUnderline() ? "§n" : "")
-                                + (itemColor.isItalic() ? "§o" : "")
-                                + (itemColor.isObfuscated() ? "§k" : "")
-                                + (itemColor.isStrikeThrough() ? "§m" : "")
-                                + fixedTitle;
-
-                this.colorState++;
-                this.subStringIndex++;
-                inventory.updateTitle(player, currentTitle);
+            protected void show(@NotNull String frame) {
+                AnimationBroadcast.updateTitle(inventory, player, frame);
             }
 
-            private char @NotNull [] updateFramesWhenRequired() {
-                char[] currentFrames = framesCopy.get(this.currentFrameIndex).toCharArray();
-
-                if (this.colorState < currentFrames.length)
-                    return currentFrames;
-
-                this.colorState = 0;
-                if (this.framesCopy.size() > 1 && (this.currentFrameIndex + 1 != this.framesCopy.size())) {
-                    this.currentFrameIndex++;
-                    currentFrames = this.framesCopy.get(this.currentFrameIndex).toCharArray();
-                }
-                return currentFrames;
-            }
-
-            private boolean cancelIfListIsEmpty() {
-                if (this.framesCopy.isEmpty()) {
-                    inventory.removeTitleAnimator(IntelligentTitleAnimator.this);
-                    return true;
-                }
-                return false;
-            }
-
-            private void resetWhenFrameFinished() {
-                if (this.subStringIndex < this.letters.length) return;
-
-                if (!loop)
-                    this.framesCopy.remove(0);
-                this.colorState = 0;
-                this.subStringIndex = 0;
-
-                if (this.currentFrameIndex + 1 < this.framesCopy.size())
-                    return;
-                this.currentFrameIndex = 0;
-            }
-        }, this.delay, this.period);
-    }
-
-    /**
-     * It takes the title, splits it into letters, and then adds the colors from the frames to the letters
-     *
-     * @param player The player to animate the title for.
-     */
-    private void animateByFullWord(@NotNull Player player) {
-        this.task = Bukkit.getScheduler().runTaskTimer(plugin, new Runnable() {
-            final char[] letters = ChatColor.stripColor(title).toCharArray();
-            final List<String> framesCopy = frames;
-            final List<String> previous = new ArrayList<>();
-            final String currentTitleFixed = Objects.requireNonNull(ChatColor.stripColor(title));
-
-            int colorIndex = 0;
-            int subStringIndex = 0;
-            int currentFrameIndex = 0;
-            String currentTitle = ChatColor.stripColor(title);
-
             @Override
-            public void run() {
-                resetWhenFrameFinished();
-
-                if (cancelIfListIsEmpty()) return;
-
-                char[] currentFrames = updateFramesWhenRequired();
-                char singleFrame = currentFrames[this.colorIndex];
-                IntelligentItemColor itemColor = frameColor.get(singleFrame);
-
-                String letter = String.valueOf(this.letters[this.subStringIndex]);
-                String rest = this.currentTitleFixed.substring(this.subStringIndex + 1);
-                boolean addColor = !letter.equals(" ");
-
-                StringBuilder newString = buildTitleBasedOnPreviousTitle(itemColor, letter);
-
-                this.currentTitle = newString
-                        .append(ChatColor.WHITE).append(rest)
-                        .toString();
-
-                this.previous.add(newString.toString());
-
-                this.subStringIndex++;
-
-                if (!addColor) return;
-
-                this.colorIndex++;
-                inventory.updateTitle(player, this.currentTitle);
+            protected void finish() {
+                inventory.removeTitleAnimator(IntelligentTitleAnimator.this);
             }
 
-            @NotNull
-            private StringBuilder buildTitleBasedOnPreviousTitle(@NotNull IntelligentItemColor itemColor, @NotNull String letter) {
-                StringBuilder newString = new StringBuilder();
-
-                if (this.subStringIndex != 0)
-                    this.previous.forEach(newString::append);
-
-                newString
-                        .append(itemColor.getColor())
-                        .append(itemColor.isBold() ? "§l" : "")
-                        .append(itemColor.isUnderline() ? "§n" : "")
-                        .append(itemColor.isItalic() ? "§o" : "")
-                        .append(itemColor.isObfuscated() ? "§k" : "")
-                        .append(itemColor.isStrikeThrough() ? "§m" : "")
-                        .append(letter);
-                return newString;
-            }
-
-            private char @NotNull [] updateFramesWhenRequired() {
-                char[] currentFrames = framesCopy.get(this.currentFrameIndex).toCharArray();
-
-                if (this.colorIndex < currentFrames.length)
-                    return currentFrames;
-
-                this.colorIndex = 0;
-                if (this.framesCopy.size() > 1 && (this.currentFrameIndex + 1 != this.framesCopy.size())) {
-                    this.currentFrameIndex++;
-                    currentFrames = this.framesCopy.get(this.currentFrameIndex).toCharArray();
-                }
-                return currentFrames;
-            }
-
-            private boolean cancelIfListIsEmpty() {
-                if (this.framesCopy.isEmpty()) {
-                    inventory.removeTitleAnimator(IntelligentTitleAnimator.this);
-                    return true;
-                }
-                return false;
-            }
-
-            private void resetWhenFrameFinished() {
-                if (this.subStringIndex < this.letters.length) return;
-
-                if (!loop)
-                    this.framesCopy.remove(0);
-                this.colorIndex = 0;
-                this.subStringIndex = 0;
-                this.previous.clear();
-                this.currentTitle = title;
-
-                if (this.currentFrameIndex + 1 < this.framesCopy.size())
-                    return;
-
-                this.currentFrameIndex = 0;
-            }
-        }, this.delay, this.period);
-    }
-
-    /**
-     * It takes the title, splits it into letters, and then adds the colors from the frames to the letters
-     *
-     * @param player The player to animate the title for.
-     */
-    private void animateWordByWord(@NotNull Player player) {
-        this.task = Bukkit.getScheduler().runTaskTimer(plugin, new Runnable() {
-            final char[] letters = ChatColor.stripColor(title).toCharArray();
-            final List<String> framesCopy = frames;
-
-            int colorState = 0;
-            int subStringIndex = 0;
-            int currentFrameIndex = 0;
-            String currentTitle = "";
-
             @Override
-            public void run() {
-                resetWhenFrameFinished();
-                String letter = String.valueOf(this.letters[this.subStringIndex]);
-
-                if (VersionUtils.isBelowAnd13()) {
-                    this.currentTitle = this.currentTitle + letter;
-
-                    this.subStringIndex++;
-                    inventory.updateTitle(player, this.currentTitle);
-                    return;
-                }
-
-                if (cancelIfListIsEmpty()) return;
-
-                char[] currentFrames = updateFramesWhenRequired();
-                boolean addColor = !letter.equals(" ");
-
-                char singleFrame = currentFrames[this.colorState];
-                IntelligentItemColor itemColor = frameColor.get(singleFrame);
-
-                appendLetterToTitle(letter, itemColor);
-
-                this.subStringIndex++;
-
-                if (!addColor) return;
-
-                this.colorState++;
-                inventory.updateTitle(player, this.currentTitle);
-            }
-
-            private void appendLetterToTitle(@NotNull String letter, @NotNull IntelligentItemColor itemColor) {
-                this.currentTitle = this.currentTitle
-                        + (itemColor.isBold() ? "§l" : "")
-                        + (itemColor.isUnderline() ? "§n" : "")
-                        + (itemColor.isItalic() ? "§o" : "")
-                        + (itemColor.isObfuscated() ? "§k" : "")
-                        + (itemColor.isStrikeThrough() ? "§m" : "")
-                        + itemColor.getColor()
-                        + letter;
-            }
-
-            private char @NotNull [] updateFramesWhenRequired() {
-                char[] currentFrames = framesCopy.get(this.currentFrameIndex).toCharArray();
-
-                if (this.colorState < currentFrames.length)
-                    return currentFrames;
-
-                this.colorState = 0;
-                if (this.framesCopy.size() > 1 && (this.currentFrameIndex + 1 != this.framesCopy.size())) {
-                    this.currentFrameIndex++;
-                    currentFrames = this.framesCopy.get(this.currentFrameIndex).toCharArray();
-                }
-                return currentFrames;
-            }
-
-            private boolean cancelIfListIsEmpty() {
-                if (this.framesCopy.isEmpty()) {
-                    inventory.removeTitleAnimator(IntelligentTitleAnimator.this);
-                    return true;
-                }
-                return false;
-            }
-
-            private void resetWhenFrameFinished() {
-                if (this.subStringIndex < this.letters.length) return;
-
-                if (!loop)
-                    this.framesCopy.remove(0);
-                this.colorState = 0;
-                this.subStringIndex = 0;
-                this.currentTitle = "";
-
-                if (this.currentFrameIndex + 1 < this.framesCopy.size())
-                    return;
-
-                this.currentFrameIndex = 0;
+            protected boolean isVisible() {
+                return AnimationBroadcast.isTitleVisible(inventory, player);
             }
-        }, this.delay, this.period);
+        }.runTaskTimer(this.inventory.getManager().getAnimationEngine(), this.delay, this.period);
     }
 
     /**
@@ -402,7 +144,7 @@ public class IntelligentTitleAnimator {
      * @return The task that is being run.
      */
     @ApiStatus.Internal
-    public @NotNull BukkitTask getTask() {
+    public @NotNull AnimationTask getTask() {
         return this.task;
     }
 
@@ -35,8 +35,6 @@ import io.github.rysefoxx.inventory.plugin.util.SlotUtils;
 import io.github.rysefoxx.inventory.plugin.util.StringConstants;
 import io.github.rysefoxx.inventory.plugin.util.TimeUtils;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 import org.jetbrains.annotations.*;
 
 import javax.annotation.Nonnegative;
@@ -49,7 +47,7 @@ import java.util.*;
 public class SlideAnimation {
 
     private static Plugin plugin;
-    private final List<BukkitTask> task = new ArrayList<>();
+    private final List<AnimationTask> task = new ArrayList<>();
     private final HashMap<Integer, Integer> timeHandler = new HashMap<>();
     private List<Integer> from = new ArrayList<>();
     private List<Integer> to = new ArrayList<>();
@@ -60,6 +58,7 @@ public class SlideAnimation {
     private Object identifier;
     private InventoryContents contents;
     private boolean blockClickEvent = false;
+    private boolean timeBased = false;
 
     @Contract("_ -> new")
     public static @NotNull Builder builder(@NotNull Plugin plugin) {
@@ -92,6 +91,10 @@ public class SlideAnimation {
      * direction is diagonal, animate diagonally
      */
     private void animateByTyp() {
+        if (this.timeBased) {
+            animateTimeBased();
+            return;
+        }
         if (this.direction == AnimatorDirection.HORIZONTAL_LEFT_RIGHT || this.direction == AnimatorDirection.HORIZONTAL_RIGHT_LEFT) {
             animateHorizontal();
             return;
@@ -124,7 +127,7 @@ public class SlideAnimation {
 
             int finalI = i;
 
-            BukkitTask bukkitTask = new BukkitRunnable() {
+            AnimationTask bukkitTask = new AnimationTask() {
                 final int toIndex = to.get(finalI);
                 final IntelligentItem item = items.get(finalI);
                 final boolean isTopLeft = direction == AnimatorDirection.DIAGONAL_TOP_LEFT;
@@ -162,7 +165,12 @@ public class SlideAnimation {
                     }
                     this.fromIndex -= 8;
                 }
-            }.runTaskTimer(plugin, this.delay, this.period);
+
+                @Override
+                protected boolean isVisible() {
+                    return isViewed();
+                }
+            }.runTaskTimer(engine(), this.delay, this.period);
             this.task.add(bukkitTask);
         }
     }
@@ -182,7 +190,7 @@ public class SlideAnimation {
 
             int finalI = i;
 
-            BukkitTask bukkitTask = new BukkitRunnable() {
+            AnimationTask bukkitTask = new AnimationTask() {
                 final int toIndex = to.get(finalI);
                 final IntelligentItem item = items.get(finalI);
                 final boolean isTopRight = direction == AnimatorDirection.DIAGONAL_TOP_RIGHT;
@@ -219,7 +227,12 @@ public class SlideAnimation {
                     }
                     this.fromIndex -= 10;
                 }
-            }.runTaskTimer(plugin, this.delay, this.period);
+
+                @Override
+                protected boolean isVisible() {
+                    return isViewed();
+                }
+            }.runTaskTimer(engine(), this.delay, this.period);
             this.task.add(bukkitTask);
         }
     }
@@ -238,7 +251,7 @@ public class SlideAnimation {
             }
 
             int finalI = i;
-            BukkitTask bukkitTask = new BukkitRunnable() {
+            AnimationTask bukkitTask = new AnimationTask() {
                 final int toIndex = to.get(finalI);
                 final IntelligentItem item = items.get(finalI);
                 final boolean leftToRight = direction == AnimatorDirection.HORIZONTAL_LEFT_RIGHT;
@@ -276,7 +289,12 @@ public class SlideAnimation {
                     this.fromIndex--;
 
                 }
-            }.runTaskTimer(plugin, this.delay, this.period);
+
+                @Override
+                protected boolean isVisible() {
+                    return isViewed();
+                }
+            }.runTaskTimer(engine(), this.delay, this.period);
             this.task.add(bukkitTask);
         }
     }
@@ -296,7 +314,7 @@ public class SlideAnimation {
 
             int finalI = i;
 
-            BukkitTask bukkitTask = new BukkitRunnable() {
+            AnimationTask bukkitTask = new AnimationTask() {
                 final int toIndex = to.get(finalI);
                 final IntelligentItem item = items.get(finalI);
                 final boolean upToDown = direction == AnimatorDirection.VERTICAL_UP_DOWN;
@@ -335,11 +353,132 @@ public class SlideAnimation {
                     this.fromIndex -= 9;
 
                 }
-            }.runTaskTimer(plugin, this.delay, this.period);
+
+                @Override
+                protected boolean isVisible() {
+                    return isViewed();
+                }
+            }.runTaskTimer(engine(), this.delay, this.period);
             this.task.add(bukkitTask);
         }
     }
 
+    /**
+     * Moves every item to the slot that matches the time since its slide started. If the server lags behind, the
+     * slots that were missed are skipped, so the slide does not take longer than it would at 20 TPS. The time in which
+     * the slide is paused because nobody sees it does not count, so it continues where it stopped.
+     */
+    private void animateTimeBased() {
+        int step = step();
+        long periodNanos = Math.max(1, this.period) * 50_000_000L;
+
+        for (int i = 0; i < this.items.size(); i++) {
+            boolean moreDelay = i != 0 && Objects.equals(this.from.get(i), this.from.get(i - 1));
+
+            int wait = this.timeHandler.getOrDefault(this.from.get(i), 0) + 2;
+
+            if (moreDelay) {
+                this.timeHandler.put(this.from.get(i), wait);
+            }
+
+            int finalI = i;
+
+            AnimationTask bukkitTask = new AnimationTask() {
+                final IntelligentItem item = items.get(finalI);
+                final int fromIndex = from.get(finalI);
+                final int positions = (to.get(finalI) - this.fromIndex) / step + 1;
+                final int waitRuns = moreDelay ? wait : 0;
+                long startedAt = -1;
+                long lastRunAt;
+                boolean paused;
+                int runs;
+                int position = -1;
+
+                @Override
+                public void run() {
+                    if (this.positions < 1) {
+                        cancel();
+                        return;
+                    }
+
+                    long now = System.nanoTime();
+                    if (this.startedAt == -1)
+                        this.startedAt = now;
+
+                    if (this.paused) {
+                        this.startedAt += Math.max(0, now - this.lastRunAt - periodNanos);
+                        this.paused = false;
+                    }
+                    this.lastRunAt = now;
+
+                    int elapsedRuns = (int) Math.min(Integer.MAX_VALUE, (now - this.startedAt) / periodNanos);
+                    int target = Math.min(Math.max(this.runs++, elapsedRuns) - this.waitRuns, this.positions - 1);
+                    if (target < 0 || target == this.position) return;
+
+                    if (this.position != -1)
+                        contents.removeItemWithConsumer(this.fromIndex + this.position * step);
+
+                    int slot = this.fromIndex + target * step;
+                    contents.set(slot, this.item);
+                    contents.update(slot, this.item);
+
+                    this.position = target;
+                    if (target == this.positions - 1)
+                        cancel();
+                }
+
+                @Override
+                protected boolean isVisible() {
+                    if (isViewed()) return true;
+
+                    this.paused = this.startedAt != -1;
+                    return false;
+                }
+            }.runTaskTimer(engine(), this.delay, this.period);
+            this.task.add(bukkitTask);
+        }
+    }
+
+    /**
+     * @return The slot offset of a single move in the direction of the animation.
+     */
+    private int step() {
+        switch (this.direction) {
+            case DIAGONAL_TOP_LEFT:
+                return 10;
+            case DIAGONAL_TOP_RIGHT:
+                return 8;
+            case DIAGONAL_BOTTOM_LEFT:
+                return -8;
+            case DIAGONAL_BOTTOM_RIGHT:
+                return -10;
+            case VERTICAL_UP_DOWN:
+                return 9;
+            case VERTICAL_DOWN_UP:
+                return -9;
+            case HORIZONTAL_LEFT_RIGHT:
+                return 1;
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * The slide is paused while the player does not have the inventory open, e.g. during the open delay.
+     *
+     * @return true if the player is viewing the animated contents.
+     */
+    private boolean isViewed() {
+        return AnimationBroadcast.isViewing(this.contents.pagination().inventory(), this.contents);
+    }
+
+    /**
+     * @return The engine of the inventory manager that runs the animation.
+     */
+    private @NotNull AnimationEngine engine() {
+        return this.contents.pagination().inventory().getManager().getAnimationEngine();
+    }
+
     /**
      * It checks if the animation is valid
      *
@@ -398,12 +537,12 @@ public class SlideAnimation {
     /**
      * It returns a list of tasks that are currently running
      *
-     * @return A list of BukkitTasks
+     * @return A list of AnimationTasks
      * @throws UnsupportedOperationException If list gets modified
      */
     @ApiStatus.Internal
     @Unmodifiable
-    public @NotNull List<BukkitTask> getTasks() throws UnsupportedOperationException {
+    public @NotNull List<AnimationTask> getTasks() throws UnsupportedOperationException {
         return Collections.unmodifiableList(this.task);
     }
 
@@ -432,6 +571,7 @@ public class SlideAnimation {
         private AnimatorDirection direction;
         private Object identifier;
         private boolean blockClickEvent = false;
+        private boolean timeBased = false;
 
         /**
          * This blocks the InventoryClickEvent until the animation is over.
@@ -443,6 +583,18 @@ public class SlideAnimation {
             return this;
         }
 
+        /**
+         * Moves the items according to the time that has passed since the animation started instead of one slot per
+         * period. If the server lags, the items skip the slots they missed, so the animation takes at most as long as
+         * it would at 20 TPS.
+         *
+         * @return The Builder to perform further editing.
+         */
+        public @NotNull Builder timeBased() {
+            this.timeBased = true;
+            return this;
+        }
+
         /**
          * Takes over all properties of the passed animator.
          *
@@ -751,6 +903,7 @@ public class SlideAnimation {
                 this.period = this.preset.period;
                 this.delay = this.preset.delay;
                 this.blockClickEvent = this.preset.blockClickEvent;
+                this.timeBased = this.preset.timeBased;
             }
 
             if (this.to.isEmpty())
@@ -777,6 +930,7 @@ public class SlideAnimation {
             slideAnimation.identifier = this.identifier;
             slideAnimation.delay = this.delay;
             slideAnimation.blockClickEvent = this.blockClickEvent;
+            slideAnimation.timeBased = this.timeBased;
             return slideAnimation;
         }
     }
@@ -0,0 +1,224 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.animator;
+
+import io.github.rysefoxx.inventory.plugin.content.IntelligentItemColor;
+import io.github.rysefoxx.inventory.plugin.enums.IntelligentItemAnimatorType;
+import org.bukkit.ChatColor;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nonnegative;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiles a text animation into a {@link FrameTable} before it is started, so that the animation task only has to
+ * look up the next frame instead of building the colored text again in every run.
+ * <p>
+ * The compiled frames are exactly the texts the name, lore and title animators used to build while running.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/17/2026
+ */
+final class TextFrames {
+
+    private final IntelligentItemAnimatorType type;
+    private final String text;
+    private final List<String> frames;
+    private final Map<Character, IntelligentItemColor> frameColor;
+    private final Map<Character, String> prefixes = new HashMap<>();
+
+    private int passLength;
+    private boolean formatsFirst;
+    private boolean plain;
+
+    /**
+     * @param type       The type of the animation.
+     * @param text       The text that is animated.
+     * @param frames     The color frames of the animation.
+     * @param frameColor The color of each frame character.
+     */
+    TextFrames(@NotNull IntelligentItemAnimatorType type,
+               @NotNull String text,
+               @NotNull List<String> frames,
+               @NotNull Map<Character, IntelligentItemColor> frameColor) {
+        this.type = type;
+        this.text = text;
+        this.frames = frames;
+        this.frameColor = frameColor;
+        this.passLength = text.length();
+    }
+
+    /**
+     * Sets how many runs one flash of the text takes. By default, this is the length of the text.
+     *
+     * @param passLength The number of runs.
+     * @return This instance.
+     */
+    @NotNull
+    TextFrames passLength(@Nonnegative int passLength) {
+        this.passLength = passLength;
+        return this;
+    }
+
+    /**
+     * Puts the formatting codes in front of the color code instead of behind it.
+     *
+     * @return This instance.
+     */
+    @NotNull
+    TextFrames formatsFirst() {
+        this.formatsFirst = true;
+        return this;
+    }
+
+    /**
+     * Types the letters without any color. Used for titles on versions that do not support colored titles.
+     *
+     * @return This instance.
+     */
+    @NotNull
+    TextFrames plain() {
+        this.plain = true;
+        return this;
+    }
+
+    /**
+     * Compiles the animation.
+     * <p>
+     * A looping animation is compiled until a pass starts at a frame that was already played, an animation that does
+     * not loop is compiled until every frame was played once.
+     *
+     * @param loop Whether the animation repeats.
+     * @return The compiled animation.
+     */
+    @NotNull
+    FrameTable<String> compile(boolean loop) {
+        List<String> remaining = new ArrayList<>(this.frames);
+        List<String> compiled = new ArrayList<>();
+        HashMap<Integer, Integer> passStarts = new HashMap<>();
+        List<String> previous = new ArrayList<>();
+
+        int colorState = 0;
+        int subStringIndex = 0;
+        int currentFrameIndex = 0;
+        String current = "";
+
+        while (true) {
+            if (subStringIndex >= this.passLength) {
+                if (!loop)
+                    remaining.remove(0);
+                colorState = 0;
+                subStringIndex = 0;
+                current = "";
+                previous.clear();
+
+                if (currentFrameIndex + 1 >= remaining.size())
+                    currentFrameIndex = 0;
+            }
+
+            if (remaining.isEmpty()) return new FrameTable<>(compiled, -1);
+
+            if (loop && subStringIndex == 0) {
+                Integer start = passStarts.putIfAbsent(currentFrameIndex, compiled.size());
+                if (start != null) return new FrameTable<>(compiled, start);
+            }
+
+            if (this.type != IntelligentItemAnimatorType.FLASH && this.text.isEmpty())
+                return new FrameTable<>(compiled, -1);
+
+            if (this.plain) {
+                current = current + this.text.charAt(subStringIndex);
+                subStringIndex++;
+                compiled.add(current);
+                continue;
+            }
+
+            String frame = remaining.get(currentFrameIndex);
+            if (colorState >= frame.length()) {
+                colorState = 0;
+                if (remaining.size() > 1 && currentFrameIndex + 1 != remaining.size()) {
+                    currentFrameIndex++;
+                    frame = remaining.get(currentFrameIndex);
+                }
+            }
+            if (frame.isEmpty()) return new FrameTable<>(compiled, -1);
+
+            String prefix = prefix(frame.charAt(colorState));
+
+            if (this.type == IntelligentItemAnimatorType.FLASH) {
+                colorState++;
+                subStringIndex++;
+                compiled.add(prefix + this.text);
+                continue;
+            }
+
+            char letter = this.text.charAt(subStringIndex);
+
+            if (this.type == IntelligentItemAnimatorType.FULL_WORD) {
+                StringBuilder newString = new StringBuilder();
+                if (subStringIndex != 0)
+                    previous.forEach(newString::append);
+
+                current = newString.append(prefix).append(letter)
+                        .append(ChatColor.WHITE).append(this.text.substring(subStringIndex + 1))
+                        .toString();
+                previous.add(current);
+            } else {
+                current = current + prefix + letter;
+            }
+
+            subStringIndex++;
+
+            if (letter == ' ') {
+                compiled.add(null);
+                continue;
+            }
+
+            colorState++;
+            compiled.add(current);
+        }
+    }
+
+    /**
+     * @param frame The frame character.
+     * @return The color and formatting codes of the frame character.
+     */
+    private @NotNull String prefix(char frame) {
+        return this.prefixes.computeIfAbsent(frame, character -> {
+            IntelligentItemColor itemColor = this.frameColor.get(character);
+            String formats = (itemColor.isBold() ? "§l" : "")
+                    + (itemColor.isUnderline() ? "§n" : "")
+                    + (itemColor.isItalic() ? "§o" : "")
+                    + (itemColor.isObfuscated() ? "§k" : "")
+                    + (itemColor.isStrikeThrough() ? "§m" : "");
+
+            return this.formatsFirst ? formats + itemColor.getColor() : itemColor.getColor() + formats;
+        });
+    }
+}
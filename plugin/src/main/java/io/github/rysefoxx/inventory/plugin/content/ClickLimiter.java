@@ -0,0 +1,161 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.content;
+
+import javax.annotation.Nonnegative;
+
+/**
+ * Limits how often each player can click an {@link IntelligentItem}. Every player has a bucket of clicks that is
+ * refilled over time. Clicks that exceed the bucket are dropped and counted.
+ * <p>
+ * For every player only the time at which his bucket is full again is stored, in an open addressing table keyed by
+ * the entity id. Entries whose bucket is full are no longer needed and are dropped when the table grows.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/17/2026
+ */
+final class ClickLimiter {
+
+    private static final long NANOS_PER_TICK = 50_000_000L;
+
+    private final int burst;
+    private final int refillTicks;
+    private final long interval;
+    private final long tolerance;
+
+    private int[] keys = new int[8];
+    private long[] fullAt = new long[8];
+    private int size;
+    private long dropped;
+
+    /**
+     * @param burst       How many clicks are allowed in a row.
+     * @param refillTicks After how many ticks another click is allowed.
+     */
+    ClickLimiter(@Nonnegative int burst, @Nonnegative int refillTicks) {
+        this.burst = Math.max(1, burst);
+        this.refillTicks = refillTicks;
+        this.interval = refillTicks * NANOS_PER_TICK;
+        this.tolerance = (this.burst - 1) * this.interval;
+    }
+
+    @Nonnegative
+    int getBurst() {
+        return this.burst;
+    }
+
+    @Nonnegative
+    int getRefillTicks() {
+        return this.refillTicks;
+    }
+
+    /**
+     * @return How many clicks were dropped so far.
+     */
+    @Nonnegative
+    long getDropped() {
+        return this.dropped;
+    }
+
+    /**
+     * Takes a click from the bucket of the player.
+     *
+     * @param entityId The entity id of the player.
+     * @param now      The current time in nanoseconds.
+     * @return true if the click is allowed, false if it was dropped.
+     */
+    boolean tryAcquire(int entityId, long now) {
+        int key = entityId + 1;
+        int index = indexOf(this.keys, key);
+
+        if (this.keys[index] == 0) {
+            if ((this.size + 1) * 2 > this.keys.length) {
+                rehash(now);
+                index = indexOf(this.keys, key);
+            }
+            this.keys[index] = key;
+            this.fullAt[index] = now;
+            this.size++;
+        }
+
+        long start = Math.max(this.fullAt[index], now);
+        if (start - now > this.tolerance) {
+            this.dropped++;
+            return false;
+        }
+
+        this.fullAt[index] = start + this.interval;
+        return true;
+    }
+
+    /**
+     * Removes the players whose bucket is full again and grows the table if it is still too small.
+     *
+     * @param now The current time in nanoseconds.
+     */
+    private void rehash(long now) {
+        int alive = 0;
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] != 0 && this.fullAt[i] > now)
+                alive++;
+        }
+
+        int capacity = this.keys.length;
+        while ((alive + 1) * 2 > capacity)
+            capacity <<= 1;
+
+        int[] newKeys = new int[capacity];
+        long[] newFullAt = new long[capacity];
+
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] == 0 || this.fullAt[i] <= now) continue;
+
+            int index = indexOf(newKeys, this.keys[i]);
+            newKeys[index] = this.keys[i];
+            newFullAt[index] = this.fullAt[i];
+        }
+
+        this.keys = newKeys;
+        this.fullAt = newFullAt;
+        this.size = alive;
+    }
+
+    /**
+     * @param keys The table to search.
+     * @param key  The key to search for.
+     * @return The index of the key, or of the empty slot where it belongs.
+     */
+    private static int indexOf(int[] keys, int key) {
+        int mask = keys.length - 1;
+        int hash = key * 0x9E3779B9;
+        int index = (hash ^ (hash >>> 16)) & mask;
+
+        while (keys[index] != 0 && keys[index] != key)
+            index = (index + 1) & mask;
+
+        return index;
+    }
+}
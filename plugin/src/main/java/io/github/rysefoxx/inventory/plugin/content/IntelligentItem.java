@@ -26,7 +26,9 @@
 package io.github.rysefoxx.inventory.plugin.content;
 
 import io.github.rysefoxx.inventory.plugin.pagination.InventoryManager;
+import lombok.AccessLevel;
 import lombok.Getter;
+import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.scheduler.BukkitTask;
@@ -35,6 +37,7 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import javax.annotation.Nonnegative;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -59,7 +62,8 @@ public class IntelligentItem {
     private int delay;
 
     private @Nullable Object id;
-    private @Nullable BukkitTask delayTask;
+    @Getter(AccessLevel.NONE)
+    private @Nullable ClickLimiter clickLimiter;
 
     //For serialization
     @Contract(pure = true)
@@ -228,6 +232,9 @@ public class IntelligentItem {
 
     /**
      * Sets the id of an IntelligentItem
+     * <p>
+     * The manager only holds a weak reference to the item. Keep a reference yourself if you want to get the item by its
+     * ID after it is no longer used in any inventory.
      *
      * @param id      The id of the item
      * @param manager The manager that will be used to update the inventory.
@@ -261,6 +268,37 @@ public class IntelligentItem {
         return this;
     }
 
+    /**
+     * Limits how often a player can click the item. Every player has his own limit. Clicks above the limit are
+     * dropped before the consumer is called.
+     *
+     * @param burst       How many clicks are allowed in a row.
+     * @param refillTicks After how many ticks another click is allowed. (1 Sec = 20 Ticks)
+     * @return The IntelligentItem.
+     */
+    public @NotNull IntelligentItem clickLimit(@Nonnegative int burst, @Nonnegative int refillTicks) {
+        this.clickLimiter = new ClickLimiter(burst, refillTicks);
+        return this;
+    }
+
+    /**
+     * Takes a click of the player from the click limit of the item.
+     *
+     * @param player The player who clicked the item.
+     * @return true if the click is allowed, false if it is above the click limit.
+     */
+    @ApiStatus.Internal
+    public boolean tryClick(@NotNull Player player) {
+        return this.clickLimiter == null || this.clickLimiter.tryAcquire(player.getEntityId(), System.nanoTime());
+    }
+
+    /**
+     * @return How many clicks were dropped because of the click limit.
+     */
+    public long getDroppedClicks() {
+        return this.clickLimiter == null ? 0 : this.clickLimiter.getDropped();
+    }
+
     /**
      * Changes the ItemStack of an existing ItemStack without changing the consumer.
      *
@@ -268,7 +306,7 @@ public class IntelligentItem {
      * @return The new intelligent ItemStack
      */
     public @NotNull IntelligentItem update(@NotNull ItemStack newItemStack) {
-        return new IntelligentItem(newItemStack, this.delay, this.defaultConsumer, this.error);
+        return withClickLimiter(new IntelligentItem(newItemStack, this.delay, this.defaultConsumer, this.error), this.clickLimiter);
     }
 
     /**
@@ -279,7 +317,7 @@ public class IntelligentItem {
      * @return The new intelligent ItemStack
      */
     public @NotNull IntelligentItem update(@NotNull ItemStack newItemStack, int delayInTicks) {
-        return new IntelligentItem(newItemStack, delayInTicks, this.defaultConsumer, this.error);
+        return withClickLimiter(new IntelligentItem(newItemStack, delayInTicks, this.defaultConsumer, this.error), this.clickLimiter);
     }
 
     /**
@@ -289,7 +327,7 @@ public class IntelligentItem {
      * @return The new intelligent ItemStack
      */
     public @NotNull IntelligentItem update(@NotNull IntelligentItem newIntelligentItem) {
-        return new IntelligentItem(newIntelligentItem.getItemStack(), this.delay, newIntelligentItem.getDefaultConsumer(), this.error);
+        return withClickLimiter(new IntelligentItem(newIntelligentItem.getItemStack(), this.delay, newIntelligentItem.getDefaultConsumer(), this.error), clickLimiterOf(newIntelligentItem));
     }
     /**
      * Changes the ItemStack of an existing Intelligent with changing the consumer.
@@ -299,7 +337,31 @@ public class IntelligentItem {
      * @return The new intelligent ItemStack
      */
     public @NotNull IntelligentItem update(@NotNull IntelligentItem newIntelligentItem, int delayInTicks) {
-        return new IntelligentItem(newIntelligentItem.getItemStack(), delayInTicks, newIntelligentItem.getDefaultConsumer(), this.error);
+        return withClickLimiter(new IntelligentItem(newIntelligentItem.getItemStack(), delayInTicks, newIntelligentItem.getDefaultConsumer(), this.error), clickLimiterOf(newIntelligentItem));
+    }
+
+    /**
+     * Returns the click limit of the new item, or the click limit of this item if the new item has none, so that
+     * updating an item does not remove its click limit.
+     *
+     * @param newIntelligentItem The new IntelligentItem
+     * @return The click limiter to use.
+     */
+    private @Nullable ClickLimiter clickLimiterOf(@NotNull IntelligentItem newIntelligentItem) {
+        return newIntelligentItem.clickLimiter != null ? newIntelligentItem.clickLimiter : this.clickLimiter;
+    }
+
+    /**
+     * Hands the click limiter over to an updated item. The limiter is shared, so the clicks counted so far still
+     * apply to the updated item.
+     *
+     * @param item         The updated item.
+     * @param clickLimiter The click limiter to hand over.
+     * @return The updated item.
+     */
+    private static @NotNull IntelligentItem withClickLimiter(@NotNull IntelligentItem item, @Nullable ClickLimiter clickLimiter) {
+        item.clickLimiter = clickLimiter;
+        return item;
     }
 
     /**
@@ -318,6 +380,10 @@ public class IntelligentItem {
         map.put("advanced", this.advanced);
         map.put("delay", this.delay);
         map.put("id", this.id);
+        if (this.clickLimiter != null) {
+            map.put("click-burst", this.clickLimiter.getBurst());
+            map.put("click-refill", this.clickLimiter.getRefillTicks());
+        }
         return map;
     }
 
@@ -338,9 +404,22 @@ public class IntelligentItem {
         intelligentItem.id = map.get("id");
         intelligentItem.advanced = (boolean) map.get("advanced");
         intelligentItem.delay = (int) map.get("delay");
+        if (map.containsKey("click-burst"))
+            intelligentItem.clickLimit((int) map.get("click-burst"), (int) map.get("click-refill"));
         return intelligentItem;
     }
 
+    /**
+     * @return always null.
+     * @deprecated Delayed clicks are now handled by the click queue of the {@link InventoryManager} instead of a task
+     * per item. This method will be removed in the next release.
+     */
+    @Deprecated
+    @Contract(value = "-> null", pure = true)
+    public @Nullable BukkitTask getDelayTask() {
+        return null;
+    }
+
     @Contract(value = "null -> false", pure = true)
     @Override
     public boolean equals(Object o) {
@@ -355,9 +434,4 @@ public class IntelligentItem {
     public int hashCode() {
         return Objects.hash(itemStack, error, defaultConsumer, canClick, canSee, advanced, id);
     }
-
-    @ApiStatus.Internal
-    public void setDelayTask(@Nullable BukkitTask delayTask) {
-        this.delayTask = delayTask;
-    }
 }
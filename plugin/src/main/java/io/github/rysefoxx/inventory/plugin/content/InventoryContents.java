@@ -364,7 +364,7 @@ public class InventoryContents {
         if (!this.inventory.getIgnoredSlots().containsKey(slot))
             throw new IllegalStateException("You have to ignore this slot in the builder first! #ignoredSlots");
 
-        this.inventory.getIgnoredSlots().put(slot, event);
+        this.inventory.setIgnoredSlot(slot, event);
     }
 
     /**
@@ -377,7 +377,7 @@ public class InventoryContents {
         if (!this.inventory.getIgnoredSlots().containsKey(slot))
             throw new IllegalStateException("You have to ignore this slot in the builder first! #ignoredSlots");
 
-        this.inventory.getIgnoredSlots().remove(slot);
+        this.inventory.removeIgnoredSlot(slot);
     }
 
     /**
@@ -405,7 +405,7 @@ public class InventoryContents {
         if (!forceUpdate || !needUpdate)
             return;
 
-        for (UUID uuid : this.inventory.getOpenedPlayers()) {
+        for (UUID uuid : this.inventory.getViewers()) {
             Player player = Bukkit.getPlayer(uuid);
             if (player == null)
                 continue;
@@ -609,7 +609,7 @@ public class InventoryContents {
         if (!this.inventory.getIgnoredSlots().containsKey(slot))
             return false;
 
-        this.inventory.getIgnoredSlots().entrySet().removeIf(entry -> entry.getKey() == slot);
+        this.inventory.removeIgnoredSlot(slot);
         return true;
     }
 
@@ -638,7 +638,7 @@ public class InventoryContents {
         if (this.inventory.getIgnoredSlots().containsKey(slot))
             return false;
 
-        this.inventory.getIgnoredSlots().put(slot, null);
+        this.inventory.setIgnoredSlot(slot, null);
         return true;
     }
 
@@ -2848,7 +2848,7 @@ public class InventoryContents {
                                     @Nonnegative int index,
                                     @NotNull String line) throws IllegalArgumentException, IllegalStateException {
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        for (UUID openedPlayer : this.inventory.getViewers()) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -2856,7 +2856,7 @@ public class InventoryContents {
                 if (contents.updateLore(SlotUtils.toSlot(row, column), index, line)) updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == this.inventory.getViewers().size();
     }
 
     /**
@@ -2907,7 +2907,7 @@ public class InventoryContents {
     public boolean updateLoreForAll(@Nonnegative int slot,
                                     @NotNull List<String> lore) throws IllegalArgumentException, IllegalStateException {
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        for (UUID openedPlayer : this.inventory.getViewers()) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -2915,7 +2915,7 @@ public class InventoryContents {
                 if (contents.updateLore(slot, lore)) updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == this.inventory.getViewers().size();
     }
 
     /**
@@ -2976,7 +2976,7 @@ public class InventoryContents {
                                     @Nonnegative int index,
                                     @NotNull String line) throws IllegalArgumentException, IllegalStateException {
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        for (UUID openedPlayer : this.inventory.getViewers()) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -2984,7 +2984,7 @@ public class InventoryContents {
                 if (contents.updateLore(slot, index, line)) updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == this.inventory.getViewers().size();
     }
 
     /**
@@ -3030,7 +3030,7 @@ public class InventoryContents {
                                     @NotNull List<Integer> indexes,
                                     @NotNull List<String> lines) throws IllegalArgumentException, IllegalStateException {
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        for (UUID openedPlayer : this.inventory.getViewers()) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -3038,7 +3038,7 @@ public class InventoryContents {
                 if (contents.updateLore(slots, indexes, lines)) updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == this.inventory.getViewers().size();
     }
 
     /**
@@ -3106,7 +3106,7 @@ public class InventoryContents {
     public boolean updateForAll(@Nonnegative int slot,
                                 @NotNull ItemStack itemStack) throws IllegalArgumentException {
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        for (UUID openedPlayer : this.inventory.getViewers()) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -3114,7 +3114,7 @@ public class InventoryContents {
                 if (contents.update(slot, itemStack)) updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == this.inventory.getViewers().size();
     }
 
     /**
@@ -3161,7 +3161,7 @@ public class InventoryContents {
     public boolean updateDisplayNameForAll(@Nonnegative int slot,
                                            @NotNull String displayName) throws IllegalArgumentException {
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        for (UUID openedPlayer : this.inventory.getViewers()) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -3169,7 +3169,7 @@ public class InventoryContents {
                 if (contents.updateDisplayName(slot, displayName)) updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == this.inventory.getViewers().size();
     }
 
     /**
@@ -3212,7 +3212,7 @@ public class InventoryContents {
     public void updateDisplayNameForAll(@Nonnegative int slot,
                                         @NotNull IntelligentItem item,
                                         @NotNull String displayName) throws IllegalArgumentException {
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        for (UUID openedPlayer : this.inventory.getViewers()) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -3304,7 +3304,7 @@ public class InventoryContents {
     public boolean updateForAll(@Nonnegative int slot,
                                 @NotNull IntelligentItem intelligentItem) throws IllegalArgumentException {
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        for (UUID openedPlayer : this.inventory.getViewers()) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -3312,7 +3312,7 @@ public class InventoryContents {
                 if (contents.update(slot, intelligentItem)) updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == this.inventory.getViewers().size();
     }
 
     /**
@@ -3343,7 +3343,7 @@ public class InventoryContents {
                                 @Nonnegative int column,
                                 @NotNull IntelligentItem intelligentItem) throws IllegalArgumentException {
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        for (UUID openedPlayer : this.inventory.getViewers()) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -3352,7 +3352,7 @@ public class InventoryContents {
                     updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == this.inventory.getViewers().size();
     }
 
     /**
@@ -3384,7 +3384,7 @@ public class InventoryContents {
     public boolean updateForAll(@NotNull List<Integer> slots,
                                 @NotNull ItemStack itemStack) throws IllegalArgumentException {
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        for (UUID openedPlayer : this.inventory.getViewers()) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -3392,7 +3392,7 @@ public class InventoryContents {
                 if (contents.update(slots, itemStack)) updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == this.inventory.getViewers().size();
     }
 
     /**
@@ -3423,7 +3423,7 @@ public class InventoryContents {
                                                @Nonnegative int column,
                                                @NotNull ItemStack itemStack) throws IllegalArgumentException {
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        for (UUID openedPlayer : this.inventory.getViewers()) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -3431,7 +3431,7 @@ public class InventoryContents {
                 if (contents.update(SlotUtils.toSlot(row, column), itemStack)) updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == this.inventory.getViewers().size();
     }
 
     /**
@@ -3460,7 +3460,7 @@ public class InventoryContents {
     public boolean updateViaCoordinationForAll(@NotNull Collection<ImmutablePair<Integer, Integer>> pairs,
                                                @NotNull ItemStack itemStack) {
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        for (UUID openedPlayer : this.inventory.getViewers()) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -3468,7 +3468,7 @@ public class InventoryContents {
                 if (contents.updateViaCoordination(pairs, itemStack)) updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == this.inventory.getViewers().size();
     }
 
     /**
@@ -3520,7 +3520,7 @@ public class InventoryContents {
                                 @Nonnegative int newSlot,
                                 @NotNull ItemStack itemStack) throws IllegalArgumentException {
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        for (UUID openedPlayer : this.inventory.getViewers()) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -3528,7 +3528,7 @@ public class InventoryContents {
                 if (contents.update(itemSlot, newSlot, itemStack)) updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == this.inventory.getViewers().size();
     }
 
     /**
@@ -3555,7 +3555,7 @@ public class InventoryContents {
     public boolean updatePositionForAll(@Nonnegative int itemSlot,
                                         @Nonnegative int newSlot) throws IllegalArgumentException {
         AtomicInteger updated = new AtomicInteger();
-        for (UUID openedPlayer : this.inventory.getOpenedPlayers()) {
+        for (UUID openedPlayer : this.inventory.getViewers()) {
             Optional<InventoryContents> inventoryContents = this.inventory.getManager().getContents(openedPlayer);
 
             inventoryContents.ifPresent(contents -> {
@@ -3563,7 +3563,7 @@ public class InventoryContents {
                 if (contents.updatePosition(itemSlot, newSlot)) updated.getAndIncrement();
             });
         }
-        return updated.get() == this.inventory.getOpenedPlayers().size();
+        return updated.get() == this.inventory.getViewers().size();
     }
 
     /**
@@ -3576,6 +3576,16 @@ public class InventoryContents {
         return this.pagination;
     }
 
+    /**
+     * The player the contents belong to.
+     *
+     * @return The player
+     */
+    @NotNull
+    public Player player() {
+        return this.player;
+    }
+
     /**
      * The SlotIterator of the inventory.
      *
@@ -29,6 +29,10 @@ import io.github.rysefoxx.inventory.plugin.animator.SlideAnimation;
 import io.github.rysefoxx.inventory.plugin.pagination.RyseInventory;
 import net.wesjd.anvilgui.AnvilGUI;
 import org.bukkit.entity.Player;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * @author Rysefoxx | Rysefoxx#6772
@@ -69,6 +73,32 @@ public interface InventoryProvider {
     default void init(Player player, InventoryContents contents, SlideAnimation animation) {
     }
 
+    /**
+     * @param player The player
+     *               This method is called 1x on the main thread, before {@link #init(Player, InventoryContents)}. It can
+     *               start loading the data of the inventory off the main thread, e.g. from a database.
+     *               <p>
+     *               Until the future is completed, the inventory shows the title holder and the fixed items that were
+     *               set in {@link #init(Player, InventoryContents)}. The pagination is only laid out afterwards. The
+     *               consumer of the future is then called on the main thread, and the resulting page is placed at once.
+     *               <p>
+     *               If the future completes exceptionally, the error is logged, the inventory is closed for the player
+     *               and {@link #initAsyncFailed(Player, Throwable)} is called.
+     * @return A future that provides the items to apply, or null if nothing is loaded asynchronously.
+     */
+    default @Nullable CompletableFuture<Consumer<InventoryContents>> initAsync(Player player) {
+        return null;
+    }
+
+    /**
+     * @param player    The player
+     * @param throwable The error the future of {@link #initAsync(Player)} completed with.
+     *                  This method is called on the main thread after the inventory was closed because its data could
+     *                  not be loaded. It can e.g. inform the player or open another inventory.
+     */
+    default void initAsyncFailed(Player player, Throwable throwable) {
+    }
+
     /**
      * @param anvil The anvil
      */
@@ -27,6 +27,7 @@ package io.github.rysefoxx.inventory.plugin.other;
 
 
 import io.github.rysefoxx.inventory.plugin.pagination.RyseInventory;
+import org.bukkit.event.EventPriority;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
@@ -35,6 +36,9 @@ import java.util.function.Consumer;
 /**
  * Class to create your own inventory events.
  * {@link RyseInventory.Builder#listener(EventCreator)}
+ * <p>
+ * Several events can be created for the same event class. They are called in the order of their priority, from
+ * {@link EventPriority#LOWEST} to {@link EventPriority#MONITOR}.
  *
  * @author Rysefoxx | Rysefoxx#6772
  * @since 2/19/2022
@@ -42,11 +46,18 @@ import java.util.function.Consumer;
 public class EventCreator<T> {
 
     private final Class<T> clazz;
+    private final EventPriority priority;
     private final Consumer<T> consumer;
 
     @Contract(pure = true)
     public EventCreator(@NotNull Class<T> clazz, @NotNull Consumer<T> consumer) {
+        this(clazz, EventPriority.NORMAL, consumer);
+    }
+
+    @Contract(pure = true)
+    public EventCreator(@NotNull Class<T> clazz, @NotNull EventPriority priority, @NotNull Consumer<T> consumer) {
         this.clazz = clazz;
+        this.priority = priority;
         this.consumer = consumer;
     }
 
@@ -62,4 +73,13 @@ public class EventCreator<T> {
     public @NotNull Class<T> getClazz() {
         return clazz;
     }
+
+    /**
+     * Returns the priority of the event.
+     *
+     * @return The priority of the event.
+     */
+    public @NotNull EventPriority getPriority() {
+        return priority;
+    }
 }
@@ -0,0 +1,140 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.pagination;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.UUID;
+
+/**
+ * Index of the block positions of players, so that the players standing on a block can be found without iterating
+ * over all online players.
+ * <p>
+ * Positions are packed into a single long per block and counted per world, because several players can stand on the
+ * same block.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/17/2026
+ */
+final class BlockPositionIndex {
+
+    private final HashMap<UUID, HashMap<Long, Integer>> worlds = new HashMap<>();
+    private final HashMap<UUID, Position> players = new HashMap<>();
+
+    /**
+     * Adds the player at the given location or moves him there if he is already tracked.
+     *
+     * @param player   The UUID of the player.
+     * @param location The location of the player.
+     */
+    void track(@NotNull UUID player, @NotNull Location location) {
+        World world = location.getWorld();
+        if (world == null) return;
+
+        UUID worldId = world.getUID();
+        long key = pack(location.getBlockX(), location.getBlockY(), location.getBlockZ());
+
+        Position position = this.players.get(player);
+        if (position != null) {
+            if (position.key == key && position.world.equals(worldId)) return;
+            decrement(position);
+        }
+
+        this.players.put(player, new Position(worldId, key));
+        this.worlds.computeIfAbsent(worldId, id -> new HashMap<>()).merge(key, 1, Integer::sum);
+    }
+
+    /**
+     * Moves the player to the given location if he is tracked.
+     *
+     * @param player   The UUID of the player.
+     * @param location The new location of the player.
+     */
+    void move(@NotNull UUID player, @NotNull Location location) {
+        if (!this.players.containsKey(player)) return;
+        track(player, location);
+    }
+
+    /**
+     * Removes the player from the index.
+     *
+     * @param player The UUID of the player.
+     */
+    void untrack(@NotNull UUID player) {
+        Position position = this.players.remove(player);
+        if (position == null) return;
+
+        decrement(position);
+    }
+
+    /**
+     * @param world The world of the block.
+     * @param x     The x coordinate of the block.
+     * @param y     The y coordinate of the block.
+     * @param z     The z coordinate of the block.
+     * @return true if a tracked player is standing in the block.
+     */
+    boolean contains(@NotNull World world, int x, int y, int z) {
+        HashMap<Long, Integer> positions = this.worlds.get(world.getUID());
+        return positions != null && positions.containsKey(pack(x, y, z));
+    }
+
+    /**
+     * @return true if no player is tracked.
+     */
+    boolean isEmpty() {
+        return this.players.isEmpty();
+    }
+
+    private void decrement(@NotNull Position position) {
+        HashMap<Long, Integer> positions = this.worlds.get(position.world);
+        if (positions == null) return;
+
+        positions.computeIfPresent(position.key, (key, count) -> count == 1 ? null : count - 1);
+        if (positions.isEmpty())
+            this.worlds.remove(position.world);
+    }
+
+    /**
+     * Packs the block coordinates into a long with 26 bits for x and z and 12 bits for y.
+     */
+    private static long pack(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFFL) << 38 | ((long) z & 0x3FFFFFFL) << 12 | (y & 0xFFFL);
+    }
+
+    private static final class Position {
+        private final UUID world;
+        private final long key;
+
+        private Position(@NotNull UUID world, long key) {
+            this.world = world;
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.pagination;
+
+import io.github.rysefoxx.inventory.plugin.content.InventoryContents;
+import io.github.rysefoxx.inventory.plugin.enums.Action;
+import io.github.rysefoxx.inventory.plugin.enums.CloseReason;
+import io.github.rysefoxx.inventory.plugin.enums.DisabledEvents;
+import io.github.rysefoxx.inventory.plugin.enums.DisabledInventoryClick;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * The click configuration of a {@link RyseInventory}, compiled into flags and one entry per slot, so that a click can
+ * be handled without searching the lists of the inventory.
+ * <p>
+ * The ignored slots can still be changed through {@link InventoryContents}, which invalidates the policy with
+ * {@link RyseInventory#invalidateClickPolicy()}, so that it is compiled again on the next click. Everything else can
+ * only be set by the builder.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/17/2026
+ */
+final class ClickPolicy {
+
+    private static final int SLOTS = 54;
+
+    final boolean topClickable;
+    final boolean bottomClickable;
+    final boolean closeOnClickOutside;
+    final boolean closeOnEmptySlot;
+    final boolean closeOnBottomClick;
+    final boolean moveToOtherInventory;
+    final boolean doubleClick;
+    final boolean clickEvent;
+    final boolean dragEvent;
+    final boolean dragIgnored;
+
+    private final boolean[] ignoredSlots = new boolean[SLOTS];
+    private final boolean[] draggableSlots = new boolean[SLOTS];
+    private final int[] ignoredSlotList;
+    @SuppressWarnings("unchecked")
+    private final Consumer<InventoryClickEvent>[] slotConsumers = new Consumer[SLOTS];
+
+    /**
+     * Compiles the click configuration of the inventory.
+     *
+     * @param inventory The inventory to compile.
+     */
+    ClickPolicy(@NotNull RyseInventory inventory) {
+        Map<Integer, Consumer<InventoryClickEvent>> ignoredSlots = inventory.getIgnoredSlots();
+
+        boolean both = inventory.isClickEventIgnored(DisabledInventoryClick.BOTH);
+        this.topClickable = both || inventory.isClickEventIgnored(DisabledInventoryClick.TOP);
+        this.bottomClickable = both || inventory.isClickEventIgnored(DisabledInventoryClick.BOTTOM);
+        this.closeOnClickOutside = inventory.hasCloseReason(CloseReason.CLICK_OUTSIDE);
+        this.closeOnEmptySlot = inventory.hasCloseReason(CloseReason.CLICK_EMPTY_SLOT);
+        this.closeOnBottomClick = inventory.hasCloseReason(CloseReason.CLICK_BOTTOM_INVENTORY);
+        this.moveToOtherInventory = inventory.isActionEnabled(Action.MOVE_TO_OTHER_INVENTORY);
+        this.doubleClick = inventory.isActionEnabled(Action.DOUBLE_CLICK);
+        this.clickEvent = inventory.hasEvent(InventoryClickEvent.class);
+        this.dragEvent = inventory.hasEvent(InventoryDragEvent.class);
+        this.dragIgnored = inventory.isEventDisabled(DisabledEvents.INVENTORY_DRAG);
+
+        ignoredSlots.forEach((slot, consumer) -> {
+            if (slot == null || slot < 0 || slot >= SLOTS) return;
+
+            this.ignoredSlots[slot] = true;
+            this.slotConsumers[slot] = consumer;
+            this.draggableSlots[slot] = consumer == null;
+        });
+
+        int count = 0;
+        for (boolean ignored : this.ignoredSlots) {
+            if (ignored) count++;
+        }
+
+        this.ignoredSlotList = new int[count];
+        for (int slot = 0, index = 0; slot < SLOTS; slot++) {
+            if (this.ignoredSlots[slot])
+                this.ignoredSlotList[index++] = slot;
+        }
+    }
+
+    /**
+     * @param slot The slot in the upper inventory.
+     * @return true if the player may take or add items in this slot.
+     */
+    boolean isIgnored(int slot) {
+        return slot >= 0 && slot < SLOTS && this.ignoredSlots[slot];
+    }
+
+    /**
+     * Items can only be dragged into ignored slots without a consumer. The consumer of an advanced slot expects a
+     * click, so dragging into it is cancelled.
+     *
+     * @param slot The slot in the upper inventory.
+     * @return true if the player may drag items into this slot.
+     */
+    boolean isDraggable(int slot) {
+        return slot >= 0 && slot < SLOTS && this.draggableSlots[slot];
+    }
+
+    /**
+     * @return the ignored slots in ascending order. The array must not be modified.
+     */
+    int @NotNull [] getIgnoredSlots() {
+        return this.ignoredSlotList;
+    }
+
+    /**
+     * @param slot The slot in the upper inventory.
+     * @return the consumer of the ignored slot or null if there is none.
+     */
+    @Nullable
+    Consumer<InventoryClickEvent> getSlotConsumer(int slot) {
+        if (slot < 0 || slot >= SLOTS) return null;
+        return this.slotConsumers[slot];
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.pagination;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nonnegative;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.logging.Level;
+
+/**
+ * Queue for the delayed handling of clicks. It is drained once per tick by a single task, so that a click does not
+ * create a task of its own.
+ * <p>
+ * Clicks are stored in one bucket per delay. Since every click of a bucket waits the same number of ticks, the buckets
+ * are ordered by the tick in which the clicks are due, and only their heads have to be checked.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/17/2026
+ */
+final class ClickQueue {
+
+    private final Plugin plugin;
+    private final HashMap<Integer, ArrayDeque<Entry>> buckets = new HashMap<>();
+    private final List<Entry> due = new ArrayList<>();
+
+    private BukkitTask task;
+    private long tick;
+    private int depth;
+    private long lastDrainTime;
+
+    ClickQueue(@NotNull Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Starts the task that drains the queue every tick.
+     */
+    void start() {
+        if (this.task != null) return;
+        this.task = Bukkit.getScheduler().runTaskTimer(this.plugin, this::drain, 1, 1);
+    }
+
+    /**
+     * Adds a click that is handled after the given delay. As with the scheduler, a delay of 0 is handled in the next
+     * tick.
+     *
+     * @param delay  The delay in ticks.
+     * @param action The action to execute.
+     */
+    void enqueue(@Nonnegative int delay, @NotNull Runnable action) {
+        int ticks = Math.max(1, delay);
+        this.buckets.computeIfAbsent(ticks, key -> new ArrayDeque<>()).addLast(new Entry(this.tick + ticks, action));
+        this.depth++;
+    }
+
+    /**
+     * @return The number of clicks that are waiting to be handled.
+     */
+    @Nonnegative
+    int getDepth() {
+        return this.depth;
+    }
+
+    /**
+     * @return How long the last drain took in nanoseconds.
+     */
+    @Nonnegative
+    long getLastDrainTime() {
+        return this.lastDrainTime;
+    }
+
+    /**
+     * Handles all clicks that are due in this tick. The due clicks are collected first, so that clicks which are added
+     * while handling them are not handled in the same tick.
+     */
+    private void drain() {
+        this.tick++;
+        if (this.depth == 0) {
+            this.lastDrainTime = 0;
+            return;
+        }
+
+        long start = System.nanoTime();
+
+        for (ArrayDeque<Entry> bucket : this.buckets.values()) {
+            while (!bucket.isEmpty() && bucket.peekFirst().due <= this.tick)
+                this.due.add(bucket.pollFirst());
+        }
+        this.depth -= this.due.size();
+
+        for (int i = 0; i < this.due.size(); i++) {
+            try {
+                this.due.get(i).action.run();
+            } catch (RuntimeException exception) {
+                this.plugin.getLogger().log(Level.SEVERE, "Error while handling a click", exception);
+            }
+        }
+        this.due.clear();
+
+        this.lastDrainTime = System.nanoTime() - start;
+    }
+
+    private static final class Entry {
+        private final long due;
+        private final Runnable action;
+
+        private Entry(long due, @NotNull Runnable action) {
+            this.due = due;
+            this.action = action;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.pagination;
+
+import io.github.rysefoxx.inventory.plugin.content.IntelligentItem;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Stores all IntelligentItems that were given an ID, grouped by that ID.
+ * <p>
+ * The items are only weakly referenced. As soon as an item is no longer used anywhere else, it is removed from the
+ * registry automatically.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/17/2026
+ */
+final class IntelligentItemRegistry {
+
+    private final HashMap<Object, List<ItemReference>> items = new HashMap<>();
+    private final ReferenceQueue<IntelligentItem> queue = new ReferenceQueue<>();
+
+    /**
+     * Adds the item to the registry. Registering the same item twice has no effect.
+     *
+     * @param item The item to add. The ID of the item must not be null.
+     */
+    void register(@NotNull IntelligentItem item) {
+        expunge();
+
+        List<ItemReference> references = this.items.computeIfAbsent(item.getId(), key -> new ArrayList<>(1));
+        for (ItemReference reference : references) {
+            if (reference.get() == item) return;
+        }
+
+        references.add(new ItemReference(item, this.queue));
+    }
+
+    /**
+     * @param id The id of the item
+     * @return The first registered item with this ID or null if there is none.
+     */
+    @Nullable
+    IntelligentItem get(@NotNull Object id) {
+        expunge();
+
+        List<ItemReference> references = this.items.get(id);
+        if (references == null) return null;
+
+        for (ItemReference reference : references) {
+            IntelligentItem item = reference.get();
+            if (item != null) return item;
+        }
+        return null;
+    }
+
+    /**
+     * @param id The id of the items
+     * @return All registered items with this ID. If no item is found, an empty list is returned.
+     */
+    @NotNull
+    List<IntelligentItem> getAll(@NotNull Object id) {
+        expunge();
+
+        List<ItemReference> references = this.items.get(id);
+        if (references == null) return new ArrayList<>();
+
+        List<IntelligentItem> result = new ArrayList<>(references.size());
+        for (ItemReference reference : references) {
+            IntelligentItem item = reference.get();
+            if (item != null) result.add(item);
+        }
+        return result;
+    }
+
+    /**
+     * Removes all items with the given ID.
+     *
+     * @param id The id of the items
+     * @return true if at least one item was removed.
+     */
+    boolean unregister(@NotNull Object id) {
+        expunge();
+        return this.items.remove(id) != null;
+    }
+
+    /**
+     * Removes a single item from the registry.
+     *
+     * @param item The item to remove.
+     * @return true if the item was registered.
+     */
+    boolean unregister(@NotNull IntelligentItem item) {
+        expunge();
+        if (item.getId() == null) return false;
+
+        List<ItemReference> references = this.items.get(item.getId());
+        if (references == null) return false;
+
+        boolean removed = references.removeIf(reference -> reference.get() == item);
+        if (references.isEmpty())
+            this.items.remove(item.getId());
+
+        return removed;
+    }
+
+    /**
+     * Removes all references whose items have already been collected by the garbage collector.
+     */
+    private void expunge() {
+        ItemReference reference;
+        while ((reference = (ItemReference) this.queue.poll()) != null) {
+            List<ItemReference> references = this.items.get(reference.id);
+            if (references == null) continue;
+
+            references.remove(reference);
+            if (references.isEmpty())
+                this.items.remove(reference.id);
+        }
+    }
+
+    private static final class ItemReference extends WeakReference<IntelligentItem> {
+
+        private final Object id;
+
+        private ItemReference(@NotNull IntelligentItem item, @NotNull ReferenceQueue<IntelligentItem> queue) {
+            super(item, queue);
+            this.id = item.getId();
+        }
+    }
+}
@@ -25,12 +25,12 @@
 
 package io.github.rysefoxx.inventory.plugin.pagination;
 
+import io.github.rysefoxx.inventory.plugin.animator.AnimationEngine;
 import io.github.rysefoxx.inventory.plugin.animator.SlideAnimation;
 import io.github.rysefoxx.inventory.plugin.content.IntelligentItem;
 import io.github.rysefoxx.inventory.plugin.content.InventoryContents;
 import io.github.rysefoxx.inventory.plugin.enums.*;
 import io.github.rysefoxx.inventory.plugin.events.*;
-import io.github.rysefoxx.inventory.plugin.other.EventCreator;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -42,14 +42,17 @@ import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
+import org.bukkit.event.HandlerList;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.event.entity.FoodLevelChangeEvent;
 import org.bukkit.event.entity.PotionSplashEvent;
 import org.bukkit.event.inventory.*;
+import org.bukkit.event.player.PlayerMoveEvent;
 import org.bukkit.event.player.PlayerPickupItemEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
 import org.bukkit.event.server.PluginDisableEvent;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
@@ -71,17 +74,31 @@ import java.util.function.Consumer;
 @RequiredArgsConstructor
 public class InventoryManager {
 
+    private static final InventoryOptions[] OPTIONS = InventoryOptions.values();
+
     private final Plugin plugin;
     @Getter(AccessLevel.PROTECTED)
     private boolean invoked = false;
 
-    private final Set<IntelligentItem> items = new HashSet<>();
+    private final IntelligentItemRegistry items = new IntelligentItemRegistry();
+    private ClickQueue clickQueue;
+    private AnimationEngine animationEngine;
+    private long droppedClicks;
     private final List<RyseInventory> cachedInventories = new ArrayList<>();
+    private final HashMap<Object, RyseInventory> cachedIdentifiers = new HashMap<>();
+    private final HashMap<Object, LinkedHashMap<UUID, RyseInventory>> openedIdentifiers = new HashMap<>();
+    private final HashMap<RyseInventory, Set<UUID>> viewers = new HashMap<>();
+    private final HashMap<PaginationLayoutKey, PaginationData> paginationLayouts = new HashMap<>();
     private final HashMap<UUID, RyseInventory> inventories = new HashMap<>();
     private final HashMap<UUID, InventoryContents> content = new HashMap<>();
+    private final HashMap<UUID, Inventory> viewerInventories = new HashMap<>();
+    private final IdentityHashMap<Inventory, Integer> viewerInventoryCounts = new IdentityHashMap<>();
     private final HashMap<UUID, BukkitTask> updaterTask = new HashMap<>();
     private final HashMap<UUID, List<RyseInventory>> lastInventories = new HashMap<>();
     private final HashMap<UUID, Long> lastOpen = new HashMap<>();
+    private final Listener[] optionListeners = new Listener[OPTIONS.length];
+    private final int[] optionViewers = new int[OPTIONS.length];
+    private final BlockPositionIndex blockBreakViewers = new BlockPositionIndex();
 
 
     /*
@@ -102,14 +119,36 @@ public class InventoryManager {
     }
 
     /**
-     * Adds the IntelligentItem to the list if this item has an ID.
+     * Adds the IntelligentItem to the registry if this item has an ID.
+     * <p>
+     * The item is only weakly referenced. It is removed automatically as soon as it is no longer used anywhere else.
      *
      * @param item The item to add.
      * @throws NullPointerException If the item ID is null.
      */
     public void register(@NotNull final IntelligentItem item) throws NullPointerException {
         if (item.getId() == null) throw new NullPointerException("The item has no ID!");
-        this.items.add(item);
+        this.items.register(item);
+    }
+
+    /**
+     * Removes all IntelligentItems with the given ID from the registry.
+     *
+     * @param id The id of the items
+     * @return true if at least one item was removed.
+     */
+    public boolean unregister(@NotNull Object id) {
+        return this.items.unregister(id);
+    }
+
+    /**
+     * Removes the IntelligentItem from the registry.
+     *
+     * @param item The item to remove.
+     * @return true if the item was registered.
+     */
+    public boolean unregister(@NotNull IntelligentItem item) {
+        return this.items.unregister(item);
     }
 
     /**
@@ -117,7 +156,7 @@ public class InventoryManager {
      * @return Returns the first IntelligentItem that matches the ID. If no item is found, null is returned.
      */
     public @Nullable IntelligentItem getItemById(@NotNull Object id) {
-        return this.items.stream().filter(item -> item.getId() == id).findFirst().orElse(null);
+        return this.items.get(id);
     }
 
     /**
@@ -125,13 +164,7 @@ public class InventoryManager {
      * @return Returns all IntelligentItems that match the ID. If no item is found, an empty list is returned.
      */
     public @NotNull List<IntelligentItem> getAllItemsById(@NotNull Object id) {
-        List<IntelligentItem> result = new ArrayList<>();
-        for (IntelligentItem item : this.items) {
-            if (item.getId() != id) continue;
-
-            result.add(item);
-        }
-        return result;
+        return this.items.getAll(id);
     }
 
     /**
@@ -152,16 +185,21 @@ public class InventoryManager {
      * @return The list with all found players.
      */
     public @NotNull List<UUID> getOpenedPlayers(@NotNull RyseInventory inventory) {
-        List<UUID> players = new ArrayList<>();
-        Bukkit.getOnlinePlayers().forEach(player -> {
-            Optional<RyseInventory> optional = getInventory(player.getUniqueId());
+        Set<UUID> players = this.viewers.get(inventory);
+        if (players == null) return new ArrayList<>();
 
-            optional.ifPresent(savedInventory -> {
-                if (!inventory.equals(savedInventory)) return;
-                players.add(player.getUniqueId());
-            });
-        });
-        return players;
+        return new ArrayList<>(players);
+    }
+
+    /**
+     * Get all players who have a certain inventory open
+     *
+     * @param inventory The inventory that is filtered by.
+     * @return A read-only live view of all players who have the inventory open. The view changes as soon as players
+     * open or close the inventory, so copy it if you open or close inventories while iterating over it.
+     */
+    public @NotNull Set<UUID> getViewers(@NotNull RyseInventory inventory) {
+        return new ViewerSet(inventory);
     }
 
     /**
@@ -188,18 +226,31 @@ public class InventoryManager {
      * Only works if the inventory has also been assigned an identifier.
      */
     public @NotNull Optional<RyseInventory> getInventory(@NotNull Object identifier) {
-        Optional<RyseInventory> optional = this.inventories.values()
-                .stream()
-                .filter(inventory -> Objects.equals(inventory.getIdentifier(), identifier))
-                .findFirst();
+        LinkedHashMap<UUID, RyseInventory> opened = this.openedIdentifiers.get(identifier);
 
-        if (optional.isPresent())
-            return optional;
+        if (opened != null && !opened.isEmpty())
+            return Optional.of(opened.values().iterator().next());
 
-        return this.cachedInventories
-                .stream()
-                .filter(inventory -> Objects.equals(inventory.getIdentifier(), identifier))
-                .findFirst();
+        return Optional.ofNullable(this.cachedIdentifiers.get(identifier));
+    }
+
+    /**
+     * With this method you can get several inventories at once from their inventory identifiers.
+     *
+     * @param identifiers The IDs to identify
+     * @return A map with the identifier as key and the found inventory as value. Identifiers for which no inventory
+     * could be found are not contained in the map.
+     * <p>
+     * Only works if the inventories have also been assigned an identifier.
+     */
+    public @NotNull Map<Object, RyseInventory> getInventories(@NotNull Collection<?> identifiers) {
+        Map<Object, RyseInventory> result = new HashMap<>();
+        for (Object identifier : identifiers) {
+            if (identifier == null) continue;
+
+            getInventory(identifier).ifPresent(inventory -> result.put(identifier, inventory));
+        }
+        return result;
     }
 
     /**
@@ -218,9 +269,65 @@ public class InventoryManager {
      */
     public void invoke() {
         Bukkit.getPluginManager().registerEvents(new InventoryListener(), this.plugin);
+        this.clickQueue = new ClickQueue(this.plugin);
+        this.clickQueue.start();
+        this.animationEngine = new AnimationEngine(this.plugin);
+        this.animationEngine.start();
         invoked = true;
     }
 
+    /**
+     * Returns how many clicks are waiting to be handled. Clicks on items and custom click events are handled by a
+     * queue that is drained once per tick.
+     *
+     * @return The number of clicks in the queue.
+     */
+    public int getClickQueueDepth() {
+        return this.clickQueue == null ? 0 : this.clickQueue.getDepth();
+    }
+
+    /**
+     * Returns how many clicks on items were dropped because they exceeded the click limit of the item.
+     *
+     * @return The number of dropped clicks.
+     * @see IntelligentItem#clickLimit(int, int)
+     */
+    public long getDroppedClicks() {
+        return this.droppedClicks;
+    }
+
+    /**
+     * Returns the engine that runs all animations of the inventories of this manager.
+     *
+     * @return The animation engine.
+     * @throws IllegalStateException if the manager was not invoked yet.
+     */
+    @ApiStatus.Internal
+    public @NotNull AnimationEngine getAnimationEngine() throws IllegalStateException {
+        if (this.animationEngine == null)
+            throw new IllegalStateException("The InventoryManager is not invoked. Please invoke it in the onEnable method.");
+
+        return this.animationEngine;
+    }
+
+    /**
+     * Returns how many animation tasks are running. All of them are run by a single task.
+     *
+     * @return The number of running animation tasks.
+     */
+    public int getRunningAnimations() {
+        return this.animationEngine == null ? 0 : this.animationEngine.size();
+    }
+
+    /**
+     * Returns how long it took to handle the clicks that were due in the last tick.
+     *
+     * @return The time in nanoseconds.
+     */
+    public long getClickQueueDrainTime() {
+        return this.clickQueue == null ? 0 : this.clickQueue.getLastDrainTime();
+    }
+
     /**
      * Returns true if the given UUID has an inventory.
      *
@@ -238,8 +345,9 @@ public class InventoryManager {
      * @param uuid The UUID of the player to remove the inventory from.
      */
     protected void removeInventoryFromPlayer(@NotNull UUID uuid) {
-        this.inventories.remove(uuid);
+        unindexOpenedInventory(uuid, this.inventories.remove(uuid));
         this.content.remove(uuid);
+        countViewerInventory(this.viewerInventories.remove(uuid), -1);
         this.lastInventories.clear();
         this.lastOpen.clear();
         BukkitTask task = this.updaterTask.remove(uuid);
@@ -254,7 +362,7 @@ public class InventoryManager {
      * @param uuid The UUID of the player to remove the inventory of.
      */
     protected void removeInventory(@NotNull UUID uuid) {
-        this.inventories.remove(uuid);
+        unindexOpenedInventory(uuid, this.inventories.remove(uuid));
     }
 
     /**
@@ -268,6 +376,57 @@ public class InventoryManager {
         this.content.put(uuid, contents);
     }
 
+    /**
+     * Returns the Bukkit inventory that was built for the player. In a shared view, several players get the same
+     * inventory.
+     *
+     * @param uuid The UUID of the player.
+     * @return the inventory of the player or an empty optional if no inventory was built for him.
+     */
+    @ApiStatus.Internal
+    public @NotNull Optional<Inventory> getViewerInventory(@NotNull UUID uuid) {
+        return Optional.ofNullable(this.viewerInventories.get(uuid));
+    }
+
+    /**
+     * Sets the Bukkit inventory that was built for the player.
+     *
+     * @param uuid      The UUID of the player.
+     * @param inventory The inventory of the player.
+     */
+    protected void setViewerInventory(@NotNull UUID uuid, @NotNull Inventory inventory) {
+        countViewerInventory(inventory, 1);
+        countViewerInventory(this.viewerInventories.put(uuid, inventory), -1);
+    }
+
+    /**
+     * Checks whether the Bukkit inventory was built for a player who still has it, even if the player does not see it
+     * yet because of an open delay or data that is still loading.
+     *
+     * @param inventory The inventory to check.
+     * @return true if at least one player has the inventory.
+     */
+    protected boolean hasViewerInventory(@NotNull Inventory inventory) {
+        return this.viewerInventoryCounts.containsKey(inventory);
+    }
+
+    /**
+     * Changes the number of players who have the Bukkit inventory.
+     *
+     * @param inventory The inventory.
+     * @param amount    1 if a player got the inventory, -1 if a player no longer has it.
+     */
+    private void countViewerInventory(@Nullable Inventory inventory, int amount) {
+        if (inventory == null) return;
+
+        int count = this.viewerInventoryCounts.getOrDefault(inventory, 0) + amount;
+        if (count <= 0) {
+            this.viewerInventoryCounts.remove(inventory);
+            return;
+        }
+        this.viewerInventoryCounts.put(inventory, count);
+    }
+
     /**
      * This function sets the inventory of a player.
      *
@@ -276,7 +435,99 @@ public class InventoryManager {
      */
     protected void setInventory(@NotNull UUID uuid,
                                 @NotNull RyseInventory inventory) {
-        this.inventories.put(uuid, inventory);
+        RyseInventory previous = this.inventories.put(uuid, inventory);
+        countOptionViewer(inventory, 1);
+        unindexOpenedInventory(uuid, previous);
+
+        if (inventory.hasOption(InventoryOptions.NO_BLOCK_BREAK)) {
+            Player player = Bukkit.getPlayer(uuid);
+            if (player != null)
+                this.blockBreakViewers.track(uuid, player.getLocation());
+        }
+
+        this.viewers.computeIfAbsent(inventory, key -> new LinkedHashSet<>()).add(uuid);
+
+        Object identifier = inventory.getIdentifier();
+        if (identifier == null) return;
+
+        this.openedIdentifiers.computeIfAbsent(identifier, key -> new LinkedHashMap<>()).put(uuid, inventory);
+    }
+
+    /**
+     * Counts the viewers of every option of the inventory. The listener of an option is registered as soon as the first
+     * viewer needs it, and unregistered again when the last one closes the inventory.
+     *
+     * @param inventory The inventory that is opened or closed.
+     * @param delta     1 if the inventory is opened, -1 if it is closed.
+     */
+    private void countOptionViewer(@NotNull RyseInventory inventory, int delta) {
+        for (InventoryOptions option : OPTIONS) {
+            if (!inventory.hasOption(option)) continue;
+
+            int ordinal = option.ordinal();
+            int before = this.optionViewers[ordinal];
+            int after = Math.max(0, before + delta);
+            this.optionViewers[ordinal] = after;
+
+            if (before == 0 && after > 0) {
+                Listener listener = createOptionListener(option);
+                this.optionListeners[ordinal] = listener;
+                Bukkit.getPluginManager().registerEvents(listener, this.plugin);
+            } else if (before > 0 && after == 0) {
+                HandlerList.unregisterAll(this.optionListeners[ordinal]);
+                this.optionListeners[ordinal] = null;
+            }
+        }
+    }
+
+    /**
+     * @param option The option
+     * @return the listener that enforces the option.
+     */
+    private @NotNull Listener createOptionListener(@NotNull InventoryOptions option) {
+        switch (option) {
+            case NO_DAMAGE:
+                return new NoDamageListener();
+            case NO_ITEM_PICKUP:
+                return new NoItemPickupListener();
+            case NO_POTION_EFFECT:
+                return new NoPotionEffectListener();
+            case NO_BLOCK_BREAK:
+                return new NoBlockBreakListener();
+            case NO_HUNGER:
+                return new NoHungerListener();
+            default:
+                throw new IllegalArgumentException("There is no listener for the option " + option);
+        }
+    }
+
+    /**
+     * Removes the player from the viewer and identifier index of the inventory he had open.
+     *
+     * @param uuid      The UUID of the player
+     * @param inventory The inventory that the player had open.
+     */
+    private void unindexOpenedInventory(@NotNull UUID uuid, @Nullable RyseInventory inventory) {
+        if (inventory == null) return;
+
+        countOptionViewer(inventory, -1);
+        this.blockBreakViewers.untrack(uuid);
+
+        Set<UUID> players = this.viewers.get(inventory);
+        if (players != null) {
+            players.remove(uuid);
+            if (players.isEmpty())
+                this.viewers.remove(inventory);
+        }
+
+        if (inventory.getIdentifier() == null) return;
+
+        LinkedHashMap<UUID, RyseInventory> opened = this.openedIdentifiers.get(inventory.getIdentifier());
+        if (opened == null) return;
+
+        opened.remove(uuid);
+        if (opened.isEmpty())
+            this.openedIdentifiers.remove(inventory.getIdentifier());
     }
 
     /**
@@ -339,6 +590,37 @@ public class InventoryManager {
         this.updaterTask.put(player.getUniqueId(), task);
     }
 
+    /**
+     * Returns the cached free slot layout for the given key.
+     *
+     * @param key The layout key
+     * @return The cached layout with its own cursors, or null if none is cached. The slots are shared with the cache
+     * and not copied.
+     */
+    @Nullable
+    PaginationData getPaginationLayout(@NotNull PaginationLayoutKey key) {
+        PaginationData layout = this.paginationLayouts.get(key);
+        return layout == null ? null : layout.share();
+    }
+
+    /**
+     * Caches the free slot layout for the given key.
+     *
+     * @param key    The layout key
+     * @param layout The layout. A copy is stored, so the passed layout can still be consumed.
+     */
+    void cachePaginationLayout(@NotNull PaginationLayoutKey key, @NotNull PaginationData layout) {
+        this.paginationLayouts.put(key, layout.newInstance());
+    }
+
+    /**
+     * Discards all cached pagination layouts. They will be calculated again the next time a paginated inventory is
+     * opened.
+     */
+    public void invalidatePaginationLayouts() {
+        this.paginationLayouts.clear();
+    }
+
     /**
      * Saves the inventory to the cache.
      *
@@ -346,125 +628,73 @@ public class InventoryManager {
      */
     protected void addToCache(RyseInventory ryseInventory) {
         this.cachedInventories.add(ryseInventory);
+
+        if (ryseInventory.getIdentifier() != null)
+            this.cachedIdentifiers.putIfAbsent(ryseInventory.getIdentifier(), ryseInventory);
     }
 
     /**
-     * It's a class that listens for events and cancels them if the player is viewing a RyseInventory
+     * A read-only view of the players who have a certain inventory open.
      */
-    public class InventoryListener implements Listener {
-
-        @Contract(pure = true)
-        private boolean hasContents(@NotNull UUID uuid) {
-            return content.containsKey(uuid);
-        }
-
-        @EventHandler(ignoreCancelled = true)
-        public void onEntityDamage(@NotNull EntityDamageEvent event) {
-            if (!(event.getEntity() instanceof Player)) return;
-            Player player = (Player) event.getEntity();
+    private class ViewerSet extends AbstractSet<UUID> {
 
-            if (!hasInventory(player.getUniqueId()))
-                return;
-
-            RyseInventory mainInventory = inventories.get(player.getUniqueId());
+        private final RyseInventory inventory;
 
-            if (!mainInventory.getOptions().contains(InventoryOptions.NO_DAMAGE)) return;
-            event.setCancelled(true);
+        private ViewerSet(@NotNull RyseInventory inventory) {
+            this.inventory = inventory;
         }
 
-        @EventHandler(ignoreCancelled = true)
-        public void onFoodLevelChange(@NotNull FoodLevelChangeEvent event) {
-            if (!(event.getEntity() instanceof Player)) return;
-            Player player = (Player) event.getEntity();
-
-            if (!hasInventory(player.getUniqueId()))
-                return;
-
-            RyseInventory mainInventory = inventories.get(player.getUniqueId());
-
-            if (!mainInventory.getOptions().contains(InventoryOptions.NO_HUNGER)) return;
-            event.setCancelled(true);
+        private @NotNull Set<UUID> players() {
+            Set<UUID> players = viewers.get(this.inventory);
+            return players == null ? Collections.emptySet() : players;
         }
 
-        @EventHandler(ignoreCancelled = true)
-        public void onPlayerPickupItem(@NotNull PlayerPickupItemEvent event) {
-            Player player = event.getPlayer();
-            if (!hasInventory(player.getUniqueId()))
-                return;
-
-            RyseInventory mainInventory = inventories.get(player.getUniqueId());
-
-            if (!mainInventory.getOptions().contains(InventoryOptions.NO_ITEM_PICKUP)) return;
-            event.setCancelled(true);
+        @Override
+        public @NotNull Iterator<UUID> iterator() {
+            return Collections.unmodifiableSet(players()).iterator();
         }
 
-        @EventHandler(ignoreCancelled = true)
-        public void onPotionSplash(@NotNull PotionSplashEvent event) {
-
-            for (LivingEntity entity : event.getAffectedEntities()) {
-                if (!(entity instanceof Player)) continue;
-                Player player = (Player) entity;
-                if (!hasInventory(player.getUniqueId()))
-                    continue;
-
-                RyseInventory mainInventory = inventories.get(player.getUniqueId());
-
-                if (!mainInventory.getOptions().contains(InventoryOptions.NO_POTION_EFFECT)) continue;
-                event.setCancelled(true);
-
-            }
+        @Override
+        public int size() {
+            return players().size();
         }
 
-        @EventHandler(ignoreCancelled = true)
-        public void onBlockBreak(@NotNull BlockBreakEvent event) {
-            Block block = event.getBlock();
-            Location toCheck = block.getLocation().clone().add(0, 1, 0);
-
-            List<Player> onBlock = new ArrayList<>();
-
-            Bukkit.getOnlinePlayers().forEach(onlinePlayer -> {
-                if (onlinePlayer.getLocation().getBlockX() == toCheck.getBlockX() &&
-                        onlinePlayer.getLocation().getBlockY() == toCheck.getBlockY() &&
-                        onlinePlayer.getLocation().getBlockZ() == toCheck.getBlockZ()) {
-                    onBlock.add(onlinePlayer);
-                }
-            });
-
-            if (!onBlock.isEmpty()) {
-                onBlock.forEach(affectedPlayer -> {
-                    if (!hasInventory(affectedPlayer.getUniqueId()))
-                        return;
+        @Override
+        public boolean contains(Object o) {
+            return players().contains(o);
+        }
+    }
 
-                    RyseInventory mainInventory = inventories.get(affectedPlayer.getUniqueId());
+    /**
+     * It's a class that listens for events and cancels them if the player is viewing a RyseInventory
+     */
+    public class InventoryListener implements Listener {
 
-                    if (!mainInventory.getOptions().contains(InventoryOptions.NO_BLOCK_BREAK)) return;
-                    event.setCancelled(true);
-                });
-            }
-        }
+        /**
+         * The drag that passed all checks in the lowest priority and still has to be added to the pagination.
+         */
+        private @Nullable InventoryDragEvent acceptedDrag;
 
         @EventHandler(priority = EventPriority.LOWEST)
-        @SuppressWarnings("unchecked")
         public void onInventoryClick(@NotNull InventoryClickEvent event) {
             if (!(event.getWhoClicked() instanceof Player)) return;
             Player player = (Player) event.getWhoClicked();
             ItemStack itemStack = event.getCurrentItem();
 
-            if (!hasInventory(player.getUniqueId()))
-                return;
             RyseInventory mainInventory = inventories.get(player.getUniqueId());
+            if (mainInventory == null)
+                return;
+
+            ClickPolicy policy = mainInventory.getClickPolicy();
 
             if (event.getClickedInventory() == null) {
-                if (mainInventory.getCloseReasons().contains(CloseReason.CLICK_OUTSIDE))
+                if (policy.closeOnClickOutside)
                     player.closeInventory();
                 return;
             }
 
-            EventCreator<InventoryClickEvent> customEvent = (EventCreator<InventoryClickEvent>) mainInventory.getEvent(InventoryClickEvent.class);
-            if (customEvent != null)
-                Bukkit.getScheduler().runTaskLater(plugin, () -> customEvent.accept(event), 2L);
-
-            List<DisabledInventoryClick> list = mainInventory.getIgnoreClickEvent();
+            if (policy.clickEvent)
+                clickQueue.enqueue(2, () -> mainInventory.callEvent(InventoryClickEvent.class, event));
 
             InventoryAction action = event.getAction();
             Inventory clickedInventory = event.getClickedInventory();
@@ -475,35 +705,26 @@ public class InventoryManager {
             InventoryContents contents = content.get(player.getUniqueId());
 
             if (clickedInventory == bottomInventory) {
-                if (!list.contains(DisabledInventoryClick.BOTTOM) && !list.contains(DisabledInventoryClick.BOTH)) {
+                if (!policy.bottomClickable) {
                     event.setCancelled(true);
                     return;
                 }
 
-                if (mainInventory.getCloseReasons().contains(CloseReason.CLICK_BOTTOM_INVENTORY)) {
+                if (policy.closeOnBottomClick) {
                     mainInventory.close(player);
                     return;
                 }
 
                 if (action == InventoryAction.MOVE_TO_OTHER_INVENTORY) {
-                    if (!mainInventory.getEnabledActions().contains(Action.MOVE_TO_OTHER_INVENTORY)) {
+                    if (!policy.moveToOtherInventory) {
                         event.setCancelled(true);
                         return;
                     }
 
-                    int[] data = checkForExistingItem(topInventory, itemStack, mainInventory);
-                    int targetSlot = data[0];
-                    int targetAmount = data[1];
-
-                    Optional<IntelligentItem> itemOptional = contents.get(targetSlot);
-
-                    if (cancelEventIfItemHasConsumer(event, mainInventory, targetSlot, itemOptional)) return;
-
-                    if (adjustItemStackAmount(topInventory, event, mainInventory, contents, targetSlot, targetAmount))
-                        return;
-
                     event.setCancelled(true);
-                    adjustItemStackAmountToMaxStackSize(itemStack, mainInventory, topInventory, contents, targetSlot, targetAmount);
+                    if (itemStack == null || itemStack.getType() == Material.AIR) return;
+
+                    moveToIgnoredSlots(event, itemStack, topInventory, mainInventory, policy, contents);
                     return;
                 }
 
@@ -514,7 +735,7 @@ public class InventoryManager {
             }
 
             if (clickedInventory == topInventory) {
-                if (!hasContents(player.getUniqueId()))
+                if (contents == null)
                     return;
                 if (slot < 0 || (mainInventory.getInventoryOpenerType() == InventoryOpenerType.CHEST && slot > mainInventory.size(contents))) {
                     return;
@@ -522,23 +743,24 @@ public class InventoryManager {
 
                 SlideAnimation animation = mainInventory.getSlideAnimator();
 
-                if (animation != null && mainInventory.activeSlideAnimatorTasks() > 0 && animation.isBlockClickEvent()) {
+                if (animation != null && animation.isBlockClickEvent() && mainInventory.activeSlideAnimatorTasks() > 0) {
                     event.setCancelled(true);
                     return;
                 }
 
-                if (!list.contains(DisabledInventoryClick.TOP) && !list.contains(DisabledInventoryClick.BOTH)) {
-                    if (event.getClick() == ClickType.DOUBLE_CLICK
-                            && !mainInventory.getEnabledActions().contains(Action.DOUBLE_CLICK)) {
+                boolean ignored = policy.isIgnored(slot);
+
+                if (!policy.topClickable) {
+                    if (clickType == ClickType.DOUBLE_CLICK && !policy.doubleClick) {
                         event.setCancelled(true);
                         return;
                     }
-                    if (!mainInventory.getIgnoredSlots().containsKey(slot))
+                    if (!ignored)
                         event.setCancelled(true);
                 }
 
-                if (mainInventory.getIgnoredSlots().containsKey(slot)) {
-                    Consumer<InventoryClickEvent> consumer = mainInventory.getIgnoredSlots().get(slot);
+                if (ignored) {
+                    Consumer<InventoryClickEvent> consumer = policy.getSlotConsumer(slot);
 
                     if (consumer != null) {
                         consumer.accept(event);
@@ -551,69 +773,103 @@ public class InventoryManager {
                     subtractItemStackAmountWhenRightClick(event, itemStack, mainInventory, slot, clickType, contents);
                 }
 
-                Optional<IntelligentItem> optional = contents.get(slot);
+                IntelligentItem item = contents.pagination().get(slot);
 
-                if (!optional.isPresent() && mainInventory.getCloseReasons().contains(CloseReason.CLICK_EMPTY_SLOT)) {
-                    event.setCancelled(true);
-                    mainInventory.close(player);
+                if (item == null) {
+                    if (policy.closeOnEmptySlot) {
+                        event.setCancelled(true);
+                        mainInventory.close(player);
+                    }
                     return;
                 }
 
-                optional.ifPresent(item -> {
-                    if (item.getDefaultConsumer() == null) {
-                        event.setCancelled(false);
-                        return;
-                    }
+                if (item.getDefaultConsumer() == null || policy.topClickable) {
+                    event.setCancelled(false);
+                    return;
+                }
 
-                    if (list.contains(DisabledInventoryClick.TOP) || list.contains(DisabledInventoryClick.BOTH)) {
-                        event.setCancelled(false);
-                        return;
-                    }
+                if (!item.tryClick(player)) {
+                    droppedClicks++;
+                    return;
+                }
 
-                    if (item.getDelayTask() != null && Bukkit.getScheduler().isCurrentlyRunning(item.getDelayTask().getTaskId()))
+                clickQueue.enqueue(item.getDelay(), () -> {
+                    if (!item.isCanClick()) {
+                        item.getError().cantClick(player, item);
                         return;
-
-                    item.setDelayTask(Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                        if (!item.isCanClick()) {
-                            item.getError().cantClick(player, item);
-                            return;
-                        }
-                        item.setDelayTask(null);
-                        item.getDefaultConsumer().accept(event);
-                        player.updateInventory();
-                    }, item.getDelay()));
+                    }
+                    item.getDefaultConsumer().accept(event);
+                    player.updateInventory();
                 });
             }
         }
 
         @EventHandler(priority = EventPriority.LOWEST)
-        @SuppressWarnings("unchecked")
         public void onInventoryDrag(@NotNull InventoryDragEvent event) {
+            this.acceptedDrag = null;
             if (!(event.getWhoClicked() instanceof Player)) return;
             Player player = (Player) event.getWhoClicked();
-            if (!hasInventory(player.getUniqueId()))
-                return;
 
-            Inventory topInventory = player.getOpenInventory().getTopInventory();
             RyseInventory mainInventory = inventories.get(player.getUniqueId());
+            if (mainInventory == null)
+                return;
 
-            EventCreator<InventoryDragEvent> customEvent = (EventCreator<InventoryDragEvent>) mainInventory.getEvent(InventoryDragEvent.class);
-            if (customEvent != null) {
-                customEvent.accept(event);
+            ClickPolicy policy = mainInventory.getClickPolicy();
+
+            if (policy.dragEvent && mainInventory.callEvent(InventoryDragEvent.class, event))
+                return;
+
+            if (policy.dragIgnored)
                 return;
+
+            int topSize = player.getOpenInventory().getTopInventory().getSize();
+            boolean top = false;
+
+            for (int rawSlot : event.getRawSlots()) {
+                if (rawSlot >= topSize) continue;
+
+                if (!policy.isDraggable(rawSlot)) {
+                    event.setCancelled(true);
+                    return;
+                }
+                top = true;
             }
 
-            if (mainInventory.getDisabledEvents().contains(DisabledEvents.INVENTORY_DRAG))
+            if (!top || mainInventory.isIgnoreManualItems())
                 return;
 
-            event.getRawSlots().forEach(integer -> {
-                if (integer >= topInventory.getSize()) return;
-                event.setCancelled(true);
-            });
+            this.acceptedDrag = event;
+        }
+
+        /**
+         * Adds the dragged items to the pagination once no other plugin cancelled the drag, so that the pagination
+         * never holds items that stayed on the cursor.
+         *
+         * @param event The drag that was accepted by {@link #onInventoryDrag(InventoryDragEvent)}.
+         */
+        @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+        public void onInventoryDragDone(@NotNull InventoryDragEvent event) {
+            if (this.acceptedDrag != event) return;
+            this.acceptedDrag = null;
+
+            Player player = (Player) event.getWhoClicked();
+            InventoryContents contents = content.get(player.getUniqueId());
+            if (contents == null)
+                return;
+
+            int topSize = player.getOpenInventory().getTopInventory().getSize();
+            Pagination pagination = contents.pagination();
+            int page = pagination.page() - 1;
+
+            for (Map.Entry<Integer, ItemStack> entry : event.getNewItems().entrySet()) {
+                int rawSlot = entry.getKey();
+                if (rawSlot >= topSize) continue;
+
+                pagination.setItem(rawSlot, page, IntelligentItem.ignored(entry.getValue().clone()), true);
+            }
         }
 
         @EventHandler(priority = EventPriority.LOWEST)
-        @SuppressWarnings("unchecked")
         public void onInventoryClose(@NotNull InventoryCloseEvent event) {
             if (!(event.getPlayer() instanceof Player)) return;
             Player player = (Player) event.getPlayer();
@@ -627,9 +883,7 @@ public class InventoryManager {
                 return;
             }
 
-            EventCreator<InventoryCloseEvent> customEvent = (EventCreator<InventoryCloseEvent>) mainInventory.getEvent(InventoryCloseEvent.class);
-            if (customEvent != null) {
-                customEvent.accept(event);
+            if (mainInventory.callEvent(InventoryCloseEvent.class, event)) {
                 mainInventory.clearData(player);
                 return;
             }
@@ -639,7 +893,6 @@ public class InventoryManager {
         }
 
         @EventHandler(priority = EventPriority.LOWEST)
-        @SuppressWarnings("unchecked")
         public void onPlayerQuit(@NotNull PlayerQuitEvent event) {
             Player player = event.getPlayer();
             if (!hasInventory(player.getUniqueId()))
@@ -647,14 +900,10 @@ public class InventoryManager {
 
             RyseInventory mainInventory = inventories.get(player.getUniqueId());
 
-            EventCreator<PlayerQuitEvent> customEvent = (EventCreator<PlayerQuitEvent>) mainInventory.getEvent(PlayerQuitEvent.class);
-            if (customEvent == null) return;
-
-            customEvent.accept(event);
+            mainInventory.callEvent(PlayerQuitEvent.class, event);
         }
 
         @EventHandler(priority = EventPriority.LOWEST)
-        @SuppressWarnings("unchecked")
         public void onRyseInventoryClose(@NotNull RyseInventoryCloseEvent event) {
             Player player = event.getPlayer();
             if (!hasInventory(player.getUniqueId()))
@@ -662,14 +911,10 @@ public class InventoryManager {
 
             RyseInventory mainInventory = inventories.get(player.getUniqueId());
 
-            EventCreator<RyseInventoryCloseEvent> customEvent = (EventCreator<RyseInventoryCloseEvent>) mainInventory.getEvent(RyseInventoryCloseEvent.class);
-            if (customEvent == null) return;
-
-            customEvent.accept(event);
+            mainInventory.callEvent(RyseInventoryCloseEvent.class, event);
         }
 
         @EventHandler(priority = EventPriority.LOWEST)
-        @SuppressWarnings("unchecked")
         public void onRyseInventoryOpen(@NotNull RyseInventoryOpenEvent event) {
             Player player = event.getPlayer();
             if (!hasInventory(player.getUniqueId()))
@@ -677,14 +922,10 @@ public class InventoryManager {
 
             RyseInventory mainInventory = inventories.get(player.getUniqueId());
 
-            EventCreator<RyseInventoryOpenEvent> customEvent = (EventCreator<RyseInventoryOpenEvent>) mainInventory.getEvent(RyseInventoryOpenEvent.class);
-            if (customEvent == null) return;
-
-            customEvent.accept(event);
+            mainInventory.callEvent(RyseInventoryOpenEvent.class, event);
         }
 
         @EventHandler(priority = EventPriority.LOWEST)
-        @SuppressWarnings("unchecked")
         public void onRyseInventoryPreClose(@NotNull RyseInventoryPreCloseEvent event) {
             Player player = event.getPlayer();
             if (!hasInventory(player.getUniqueId()))
@@ -692,14 +933,10 @@ public class InventoryManager {
 
             RyseInventory mainInventory = inventories.get(player.getUniqueId());
 
-            EventCreator<RyseInventoryPreCloseEvent> customEvent = (EventCreator<RyseInventoryPreCloseEvent>) mainInventory.getEvent(RyseInventoryPreCloseEvent.class);
-            if (customEvent == null) return;
-
-            customEvent.accept(event);
+            mainInventory.callEvent(RyseInventoryPreCloseEvent.class, event);
         }
 
         @EventHandler(priority = EventPriority.LOWEST)
-        @SuppressWarnings("unchecked")
         public void onRyseInventoryPreOpen(@NotNull RyseInventoryPreOpenEvent event) {
             Player player = event.getPlayer();
             if (!hasInventory(player.getUniqueId()))
@@ -707,24 +944,17 @@ public class InventoryManager {
 
             RyseInventory mainInventory = inventories.get(player.getUniqueId());
 
-            EventCreator<RyseInventoryPreOpenEvent> customEvent = (EventCreator<RyseInventoryPreOpenEvent>) mainInventory.getEvent(RyseInventoryPreOpenEvent.class);
-            if (customEvent == null) return;
-
-            customEvent.accept(event);
+            mainInventory.callEvent(RyseInventoryPreOpenEvent.class, event);
         }
 
         @EventHandler(priority = EventPriority.LOWEST)
-        @SuppressWarnings("unchecked")
         public void onRyseInventoryTitleChange(@NotNull RyseInventoryTitleChangeEvent event) {
             Player player = event.getPlayer();
             if (!hasInventory(player.getUniqueId()))
                 return;
 
             RyseInventory mainInventory = inventories.get(player.getUniqueId());
-            EventCreator<RyseInventoryTitleChangeEvent> customEvent = (EventCreator<RyseInventoryTitleChangeEvent>) mainInventory.getEvent(RyseInventoryTitleChangeEvent.class);
-            if (customEvent == null) return;
-
-            customEvent.accept(event);
+            mainInventory.callEvent(RyseInventoryTitleChangeEvent.class, event);
         }
 
         @EventHandler(priority = EventPriority.LOWEST)
@@ -744,136 +974,98 @@ public class InventoryManager {
         }
 
         /**
-         * This function checks if an item exists in an inventory, and if it does, it returns the slot number and the
-         * amount of the item in that slot.
+         * Distributes the shift-clicked item over the ignored slots of the upper inventory in one pass. Stacks of the
+         * same item are filled first, the remaining amount is then put into empty slots. Only the ignored slots are
+         * looked at, and the item type is compared before the item meta.
          *
-         * @param topInventory The inventory to check for the item in.
-         * @param itemStack    The item you want to check for.
-         * @return An array of integers.
+         * @param event         The InventoryClickEvent that was fired.
+         * @param itemStack     The itemstack that is being moved.
+         * @param topInventory  The inventory that the player is currently viewing.
+         * @param mainInventory The RyseInventory instance
+         * @param policy        The click policy of the inventory.
+         * @param contents      The InventoryContents object that contains all the information about the inventory.
          */
-        private int @NotNull [] checkForExistingItem(@NotNull Inventory topInventory,
-                                                     @Nullable ItemStack itemStack,
-                                                     @NotNull RyseInventory mainInventory) {
-            int[] data = new int[2];
-            data[0] = -1;
-            for (int i = 0; i < topInventory.getSize(); i++) {
-                ItemStack inventoryItem = topInventory.getItem(i);
-                if (!mainInventory.getIgnoredSlots().containsKey(i)) continue;
+        private void moveToIgnoredSlots(@NotNull InventoryClickEvent event,
+                                        @NotNull ItemStack itemStack,
+                                        @NotNull Inventory topInventory,
+                                        @NotNull RyseInventory mainInventory,
+                                        @NotNull ClickPolicy policy,
+                                        @NotNull InventoryContents contents) {
+            int[] slots = policy.getIgnoredSlots();
+            int[] emptySlots = new int[slots.length];
+            int empty = 0;
+
+            Material type = itemStack.getType();
+            int maxStackSize = itemStack.getMaxStackSize();
+            int remaining = itemStack.getAmount();
+            int size = topInventory.getSize();
+
+            for (int i = 0; i < slots.length && remaining > 0; i++) {
+                int slot = slots[i];
+                if (slot >= size) break;
+
+                ItemStack inventoryItem = topInventory.getItem(slot);
 
                 if (inventoryItem == null || inventoryItem.getType() == Material.AIR) {
-                    data[0] = i;
-                    break;
-                }
-
-                if (inventoryItem.isSimilar(itemStack) && inventoryItem.getAmount() < inventoryItem.getMaxStackSize()) {
-                    data[0] = i;
-                    data[1] = inventoryItem.getAmount();
-                    break;
+                    emptySlots[empty++] = slot;
+                    continue;
                 }
-            }
-            return data;
-        }
 
-        /**
-         * If the item in the target slot has a consumer, cancel the event
-         *
-         * @param event         The InventoryClickEvent that was called.
-         * @param mainInventory The inventory that the player is currently viewing.
-         * @param targetSlot    The slot that the player is trying to click on.
-         * @param itemOptional  The item that is being clicked on.
-         * @return A boolean value.
-         */
-        private boolean cancelEventIfItemHasConsumer(@NotNull InventoryClickEvent event,
-                                                     @NotNull RyseInventory mainInventory,
-                                                     int targetSlot,
-                                                     Optional<IntelligentItem> itemOptional) {
-            if (!mainInventory.getIgnoredSlots().containsKey(targetSlot)) {
-                if (itemOptional.isPresent() && itemOptional.get().getDefaultConsumer() != null) return true;
+                if (inventoryItem.getType() != type || inventoryItem.getAmount() >= maxStackSize) continue;
+                if (!inventoryItem.isSimilar(itemStack)) continue;
 
-                event.setCancelled(true);
-                return true;
+                int moved = Math.min(remaining, maxStackSize - inventoryItem.getAmount());
+                remaining -= moved;
+                placeMovedItem(topInventory, mainInventory, contents, slot, itemStack, inventoryItem.getAmount() + moved);
             }
-            return false;
-        }
-
-        /**
-         * If the amount of the item in the target slot plus the amount of the item in the cursor slot is less than or
-         * equal to the max stack size of the item, then set the amount of the item in the target slot to the amount of the
-         * item in the target slot plus the amount of the item in the cursor slot
-         *
-         * @param mainInventory The RyseInventory instance
-         * @param contents      The InventoryContents object that contains all the information about the inventory.
-         * @param targetSlot    The slot in the inventory that the item is being moved to.
-         * @param targetAmount  The amount of the item that you want to add to the target slot.
-         * @return A boolean value.
-         */
-        private boolean adjustItemStackAmount(@NotNull Inventory topInventory,
-                                              InventoryClickEvent event,
-                                              RyseInventory mainInventory,
-                                              InventoryContents contents,
-                                              int targetSlot, int targetAmount) {
-            ItemStack itemStack = event.getCurrentItem();
-            if (itemStack.getAmount() + targetAmount <= itemStack.getMaxStackSize()) {
-                event.setCancelled(true);
 
-                ItemStack topItem = topInventory.getItem(targetSlot);
-
-                if (topItem != null && topItem.getType() != Material.AIR)
-                    if (!itemStack.isSimilar(topInventory.getItem(targetSlot)))
-                        return true;
+            for (int i = 0; i < empty && remaining > 0; i++) {
+                int moved = Math.min(remaining, maxStackSize);
+                remaining -= moved;
+                placeMovedItem(topInventory, mainInventory, contents, emptySlots[i], itemStack, moved);
+            }
 
+            if (remaining == itemStack.getAmount()) return;
 
+            if (remaining == 0) {
                 event.setCurrentItem(null);
-
-                ItemStack finalItemStack = itemStack.clone();
-                finalItemStack.setAmount(itemStack.getAmount() + targetAmount);
-
-                topInventory.setItem(targetSlot, finalItemStack);
-
-                if (!mainInventory.isIgnoreManualItems()) {
-                    contents.pagination().setItem(
-                            targetSlot,
-                            contents.pagination().page() - 1,
-                            IntelligentItem.ignored(finalItemStack),
-                            true);
-                }
-                return true;
+                return;
             }
-            return false;
-        }
 
+            ItemStack rest = itemStack.clone();
+            rest.setAmount(remaining);
+            event.setCurrentItem(rest);
+        }
 
         /**
-         * If the item stack is greater than the max stack size, set the item stack to the max stack size and subtract the
-         * max stack size from the original item stack
+         * Places a copy of the moved item with the given amount in the upper inventory and saves it in the pagination.
          *
-         * @param itemStack     The itemstack that is being moved
-         * @param mainInventory The RyseInventory instance
          * @param topInventory  The inventory that the player is currently viewing.
-         * @param contents      The InventoryContents object that is passed to the InventoryListener.
-         * @param targetSlot    The slot in the top inventory that the item is being moved to.
-         * @param targetAmount  The amount of items to be moved to the target slot.
+         * @param mainInventory The RyseInventory instance
+         * @param contents      The InventoryContents object that contains all the information about the inventory.
+         * @param slot          The slot in the upper inventory.
+         * @param itemStack     The itemstack that is being moved.
+         * @param amount        The new amount in the slot.
          */
-        private void adjustItemStackAmountToMaxStackSize(@NotNull ItemStack itemStack,
-                                                         @NotNull RyseInventory mainInventory,
-                                                         @NotNull Inventory topInventory,
-                                                         InventoryContents contents,
-                                                         int targetSlot, int targetAmount) {
-            ItemStack toSet = new ItemStack(itemStack.getType(), itemStack.getMaxStackSize());
-            topInventory.setItem(targetSlot, toSet);
-
-            if (!mainInventory.isIgnoreManualItems()) {
-                contents.pagination().setItem(
-                        targetSlot,
-                        contents.pagination().page() - 1,
-                        IntelligentItem.ignored(toSet),
-                        true);
-            }
+        private void placeMovedItem(@NotNull Inventory topInventory,
+                                    @NotNull RyseInventory mainInventory,
+                                    @NotNull InventoryContents contents,
+                                    int slot,
+                                    @NotNull ItemStack itemStack,
+                                    int amount) {
+            ItemStack toSet = itemStack.clone();
+            toSet.setAmount(amount);
+            topInventory.setItem(slot, toSet);
+
+            if (mainInventory.isIgnoreManualItems()) return;
 
-            itemStack.setAmount(itemStack.getAmount() - targetAmount);
+            contents.pagination().setItem(
+                    slot,
+                    contents.pagination().page() - 1,
+                    IntelligentItem.ignored(toSet),
+                    true);
         }
 
-
         /**
          * If the cursor is not empty, and the item in the slot is similar to the cursor, then set the amount of the item
          * in the slot to the amount of the item in the slot plus the amount of the cursor
@@ -952,4 +1144,124 @@ public class InventoryManager {
                 contents.pagination().remove(slot);
         }
     }
+
+    /**
+     * Cancels the damage of players whose inventory has the option {@link InventoryOptions#NO_DAMAGE}.
+     */
+    public class NoDamageListener implements Listener {
+
+        @EventHandler(ignoreCancelled = true)
+        public void onEntityDamage(@NotNull EntityDamageEvent event) {
+            if (!(event.getEntity() instanceof Player)) return;
+            Player player = (Player) event.getEntity();
+
+            if (!hasInventory(player.getUniqueId()))
+                return;
+
+            RyseInventory mainInventory = inventories.get(player.getUniqueId());
+
+            if (!mainInventory.hasOption(InventoryOptions.NO_DAMAGE)) return;
+            event.setCancelled(true);
+        }
+    }
+
+    /**
+     * Cancels the hunger of players whose inventory has the option {@link InventoryOptions#NO_HUNGER}.
+     */
+    public class NoHungerListener implements Listener {
+
+        @EventHandler(ignoreCancelled = true)
+        public void onFoodLevelChange(@NotNull FoodLevelChangeEvent event) {
+            if (!(event.getEntity() instanceof Player)) return;
+            Player player = (Player) event.getEntity();
+
+            if (!hasInventory(player.getUniqueId()))
+                return;
+
+            RyseInventory mainInventory = inventories.get(player.getUniqueId());
+
+            if (!mainInventory.hasOption(InventoryOptions.NO_HUNGER)) return;
+            event.setCancelled(true);
+        }
+    }
+
+    /**
+     * Prevents players whose inventory has the option {@link InventoryOptions#NO_ITEM_PICKUP} from picking up items.
+     */
+    public class NoItemPickupListener implements Listener {
+
+        @EventHandler(ignoreCancelled = true)
+        public void onPlayerPickupItem(@NotNull PlayerPickupItemEvent event) {
+            Player player = event.getPlayer();
+            if (!hasInventory(player.getUniqueId()))
+                return;
+
+            RyseInventory mainInventory = inventories.get(player.getUniqueId());
+
+            if (!mainInventory.hasOption(InventoryOptions.NO_ITEM_PICKUP)) return;
+            event.setCancelled(true);
+        }
+    }
+
+    /**
+     * Cancels splash potions that affect players whose inventory has the option
+     * {@link InventoryOptions#NO_POTION_EFFECT}.
+     */
+    public class NoPotionEffectListener implements Listener {
+
+        @EventHandler(ignoreCancelled = true)
+        public void onPotionSplash(@NotNull PotionSplashEvent event) {
+
+            for (LivingEntity entity : event.getAffectedEntities()) {
+                if (!(entity instanceof Player)) continue;
+                Player player = (Player) entity;
+                if (!hasInventory(player.getUniqueId()))
+                    continue;
+
+                RyseInventory mainInventory = inventories.get(player.getUniqueId());
+
+                if (!mainInventory.hasOption(InventoryOptions.NO_POTION_EFFECT)) continue;
+                event.setCancelled(true);
+
+            }
+        }
+    }
+
+    /**
+     * Prevents the block under players whose inventory has the option {@link InventoryOptions#NO_BLOCK_BREAK} from
+     * being broken. The block positions of these players are tracked while they move, so that a broken block is only
+     * looked up once.
+     */
+    public class NoBlockBreakListener implements Listener {
+
+        @EventHandler(ignoreCancelled = true)
+        public void onBlockBreak(@NotNull BlockBreakEvent event) {
+            if (blockBreakViewers.isEmpty()) return;
+
+            Block block = event.getBlock();
+            if (blockBreakViewers.contains(block.getWorld(), block.getX(), block.getY() + 1, block.getZ()))
+                event.setCancelled(true);
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+        public void onPlayerMove(@NotNull PlayerMoveEvent event) {
+            Location from = event.getFrom();
+            Location to = event.getTo();
+            if (to == null) return;
+
+            if (from.getBlockX() == to.getBlockX()
+                    && from.getBlockY() == to.getBlockY()
+                    && from.getBlockZ() == to.getBlockZ()
+                    && from.getWorld() == to.getWorld()) return;
+
+            blockBreakViewers.move(event.getPlayer().getUniqueId(), to);
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+        public void onPlayerTeleport(@NotNull PlayerTeleportEvent event) {
+            if (event.getTo() == null) return;
+
+            blockBreakViewers.move(event.getPlayer().getUniqueId(), event.getTo());
+        }
+    }
 }
@@ -31,7 +31,6 @@ import io.github.rysefoxx.inventory.plugin.enums.IntelligentType;
 import io.github.rysefoxx.inventory.plugin.util.StringConstants;
 import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.Setter;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
@@ -39,8 +38,8 @@ import org.jetbrains.annotations.Nullable;
 
 import javax.annotation.Nonnegative;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * @author Rysefoxx | Rysefoxx#6772
@@ -62,8 +61,16 @@ public class Pagination {
     @Getter(AccessLevel.PROTECTED)
     private boolean calledItemsPerPage;
 
-    @Setter(AccessLevel.PROTECTED)
     private List<IntelligentItemData> inventoryData = new ArrayList<>();
+    private PaginationIndex index = new PaginationIndex();
+    private int valueForPage = -1;
+
+    @Getter
+    private @Nullable PaginationSource source;
+    private int preloadedPages;
+    private @Nullable int[] sourceSlots;
+    private @Nullable int[] sourcePages;
+    private HashMap<Integer, List<IntelligentItemData>> loadedPages = new HashMap<>();
 
     /**
      * @param inventory The inventory where the pagination is used.
@@ -81,6 +88,13 @@ public class Pagination {
         this.page = pagination.page;
         this.slotIterator = pagination.slotIterator;
         this.inventoryData = pagination.inventoryData;
+        this.index = pagination.index;
+        this.valueForPage = pagination.valueForPage;
+        this.source = pagination.source;
+        this.preloadedPages = pagination.preloadedPages;
+        this.sourceSlots = pagination.sourceSlots;
+        this.sourcePages = pagination.sourcePages;
+        this.loadedPages = pagination.loadedPages;
         this.calledItemsPerPage = pagination.calledItemsPerPage;
     }
 
@@ -110,8 +124,8 @@ public class Pagination {
         if (this.inventory.getFixedPageSize() != -1)
             return this.inventory.getFixedPageSize();
 
-        return (int) Math.ceil((double) this.inventoryData.stream()
-                .filter(data -> data.getOriginalSlot() == -1).count() / calculateValueForPage());
+        int items = this.index.paginatedItems() + (this.source == null ? 0 : this.source.size());
+        return (int) Math.ceil((double) items / calculateValueForPage());
     }
 
     /**
@@ -128,8 +142,7 @@ public class Pagination {
         if (this.inventory.getFixedPageSize() != -1)
             return this.page == this.inventory.getFixedPageSize() - 1;
 
-        int slide = (int) Math.ceil((double) this.inventoryData.stream()
-                .filter(data -> data.getOriginalSlot() == -1).count() / calculateValueForPage());
+        int slide = lastPage();
 
         return this.page >= (slide != 0 ? slide - 1 : 0);
     }
@@ -186,7 +199,7 @@ public class Pagination {
      */
     public void setItems(@NotNull List<IntelligentItem> items) {
         for (IntelligentItem item : items)
-            this.inventoryData.add(new IntelligentItemData(item, this.page, -1, false, false));
+            addInventoryData(new IntelligentItemData(item, this.page, -1, false, false));
     }
 
     /**
@@ -196,7 +209,7 @@ public class Pagination {
      */
     public void setItems(IntelligentItem @NotNull [] items) {
         for (IntelligentItem item : items)
-            this.inventoryData.add(new IntelligentItemData(item, this.page, -1, false, false));
+            addInventoryData(new IntelligentItemData(item, this.page, -1, false, false));
     }
 
     /**
@@ -205,7 +218,7 @@ public class Pagination {
      * @param item the intelligent ItemStack
      */
     public void addItem(@NotNull IntelligentItem item) {
-        this.inventoryData.add(new IntelligentItemData(item, this.page, -1, false, false));
+        addInventoryData(new IntelligentItemData(item, this.page, -1, false, false));
     }
 
     /**
@@ -214,7 +227,7 @@ public class Pagination {
      * @param itemStack the ItemStack
      */
     public void addItem(@NotNull ItemStack itemStack) {
-        this.inventoryData.add(new IntelligentItemData(IntelligentItem.empty(itemStack), this.page, -1, false, false));
+        addInventoryData(new IntelligentItemData(IntelligentItem.empty(itemStack), this.page, -1, false, false));
     }
 
     /**
@@ -228,7 +241,34 @@ public class Pagination {
                 ? IntelligentItem.empty(itemStack)
                 : IntelligentItem.ignored(itemStack);
 
-        this.inventoryData.add(new IntelligentItemData(item, this.page, -1, false, false));
+        addInventoryData(new IntelligentItemData(item, this.page, -1, false, false));
+    }
+
+    /**
+     * Sets a source that creates the items of the pagination on demand. Only the items of the page that is opened are
+     * created. The source items are placed after the items that were added with {@link #addItem(IntelligentItem)}.
+     * <p>
+     * A SlotIterator is required for this.
+     *
+     * @param source The source of the items.
+     */
+    public void source(@NotNull PaginationSource source) {
+        source(source, 0);
+    }
+
+    /**
+     * Sets a source that creates the items of the pagination on demand. Only the items of the page that is opened and
+     * the given number of pages before and after it are created.
+     * The source items are placed after the items that were added with {@link #addItem(IntelligentItem)}.
+     * <p>
+     * A SlotIterator is required for this.
+     *
+     * @param source         The source of the items.
+     * @param preloadedPages How many neighbouring pages should also be loaded.
+     */
+    public void source(@NotNull PaginationSource source, @Nonnegative int preloadedPages) {
+        this.source = source;
+        this.preloadedPages = preloadedPages;
     }
 
     /**
@@ -238,6 +278,7 @@ public class Pagination {
      */
     public void iterator(@NotNull SlotIterator slotIterator) {
         this.slotIterator = slotIterator;
+        this.valueForPage = -1;
     }
 
     /**
@@ -253,7 +294,7 @@ public class Pagination {
 
         remove(slot);
 
-        this.inventoryData.add(new IntelligentItemData(newItem, this.page, slot, false, true));
+        addInventoryData(new IntelligentItemData(newItem, this.page, slot, false, true));
     }
 
     /**
@@ -274,7 +315,7 @@ public class Pagination {
 
         remove(slot, page);
 
-        this.inventoryData.add(new IntelligentItemData(newItem, page, slot, transfer, false));
+        addInventoryData(new IntelligentItemData(newItem, page, slot, transfer, false));
     }
 
     /**
@@ -285,6 +326,7 @@ public class Pagination {
     public void setItemsPerPage(@Nonnegative int itemsPerPage) {
         this.itemsPerPage = itemsPerPage;
         this.calledItemsPerPage = true;
+        this.valueForPage = -1;
     }
 
     /**
@@ -295,7 +337,7 @@ public class Pagination {
      */
     @ApiStatus.Internal
     public void remove(@Nonnegative int slot) {
-        this.inventoryData.removeIf(data -> data.getPage() == this.page && data.getModifiedSlot() == slot);
+        remove(slot, this.page);
     }
 
     /**
@@ -305,7 +347,14 @@ public class Pagination {
      * @param page The page of the inventory.
      */
     protected void remove(@Nonnegative int slot, @Nonnegative int page) {
-        this.inventoryData.removeIf(data -> data.getPage() == page && data.getModifiedSlot() == slot);
+        if (this.index.remove(slot, page) == 0) return;
+
+        this.inventoryData.removeIf(data -> {
+            if (data.getPage() != page || data.getModifiedSlot() != slot) return false;
+
+            this.index.discard(data);
+            return true;
+        });
     }
 
     /**
@@ -327,19 +376,14 @@ public class Pagination {
      */
     @ApiStatus.Internal
     public @Nullable IntelligentItem getPresent(@Nonnegative int slot) {
-        return this.inventoryData.stream()
-                .filter(data -> data.getPage() == page && data.getModifiedSlot() == slot && data.isPresetOnAllPages())
-                .findFirst()
-                .map(IntelligentItemData::getItem)
-                .orElse(null);
+        IntelligentItemData data = this.index.getPreset(slot, this.page);
+        return data == null ? null : data.getItem();
     }
 
     /**
      * Return the item in the given slot on the given page, or null if there is no item in that slot.
      * <p>
-     * The first thing we do is filter the inventory data to only include data that matches the given page and slot. Then
-     * we use `findFirst()` to get the first item in the stream, if there is one. If there is an item, we use `map()` to
-     * get the item from the data. If there is no item, we use `orElse()` to return null
+     * Items that are preset on all pages take precedence over the items of the page itself.
      *
      * @param slot The slot number of the item you want to get.
      * @param page The page number of the inventory.
@@ -347,19 +391,14 @@ public class Pagination {
      */
     @ApiStatus.Internal
     public @Nullable IntelligentItem get(@Nonnegative int slot, @Nonnegative int page) {
-        for (IntelligentItemData data : this.inventoryData) {
-            if (data.isPresetOnAllPages() && data.getModifiedSlot() == slot)
-                return data.getItem();
-
-            if (data.getPage() == page && data.getModifiedSlot() == slot)
-                return data.getItem();
-        }
-
-        return null;
+        IntelligentItemData data = this.index.get(slot, page);
+        return data == null ? null : data.getItem();
     }
 
     /**
      * Returns the inventory data of the player.
+     * <p>
+     * Changes to the list are not reflected in the slot index. Use the methods of this class to modify it.
      *
      * @return A list of IntelligentItemData objects.
      */
@@ -375,18 +414,127 @@ public class Pagination {
      */
     protected void addInventoryData(IntelligentItemData itemData) {
         this.inventoryData.add(itemData);
+        this.index.add(itemData);
+    }
+
+    /**
+     * Replaces the inventory data and indexes it again.
+     *
+     * @param inventoryData The new inventory data.
+     */
+    protected void setInventoryData(@NotNull List<IntelligentItemData> inventoryData) {
+        this.inventoryData = inventoryData;
+        this.index.rebuild(inventoryData);
+    }
+
+    /**
+     * Places item data that has not been placed yet in the given slot on the given page.
+     *
+     * @param itemData The item data to place.
+     * @param slot     The slot
+     * @param page     The page
+     */
+    protected void place(@NotNull IntelligentItemData itemData, @Nonnegative int slot, @Nonnegative int page) {
+        itemData.setPage(page);
+        itemData.setModifiedSlot(slot);
+        this.index.place(itemData);
     }
 
     /**
-     * This function returns a list of all the items on the specified page.
+     * This function returns a list of all the placed items on the specified page.
      *
      * @param page The page number to get the data from.
      * @return A list of IntelligentItemData objects.
      */
     protected @NotNull List<IntelligentItemData> getDataByPage(@Nonnegative int page) {
-        return this.inventoryData.stream()
-                .filter(item -> item.getPage() == page)
-                .collect(Collectors.toList());
+        return this.index.getPage(page);
+    }
+
+    /**
+     * Sets the slot and page of every item of the source.
+     *
+     * @param slots The slot of each source item.
+     * @param pages The page of each source item. Must be in ascending order.
+     */
+    protected void setSourceLayout(@NotNull int[] slots, @NotNull int[] pages) {
+        this.sourceSlots = slots;
+        this.sourcePages = pages;
+    }
+
+    /**
+     * Creates the source items of the given page and its preloaded neighbours. Pages that are further away are
+     * removed again.
+     *
+     * @param page The page that is opened.
+     */
+    protected void loadSourcePage(@Nonnegative int page) {
+        if (this.source == null || this.sourceSlots == null || this.sourcePages == null) return;
+
+        int from = Math.max(0, page - this.preloadedPages);
+        int to = page + this.preloadedPages;
+
+        this.loadedPages.entrySet().removeIf(entry -> {
+            if (entry.getKey() >= from && entry.getKey() <= to) return false;
+
+            for (IntelligentItemData data : entry.getValue()) {
+                if (this.index.getPlaced(data.getModifiedSlot(), data.getPage()) == data)
+                    remove(data.getModifiedSlot(), data.getPage());
+            }
+            return true;
+        });
+
+        for (int i = from; i <= to; i++) {
+            if (this.loadedPages.containsKey(i)) continue;
+
+            int start = firstIndexOfPage(this.sourcePages, i);
+            int end = firstIndexOfPage(this.sourcePages, i + 1);
+            if (start >= end) continue;
+
+            List<IntelligentItem> items = this.source.load(start, end);
+            List<IntelligentItemData> loaded = new ArrayList<>(items.size());
+
+            for (int j = 0; j < items.size() && start + j < end; j++) {
+                int slot = this.sourceSlots[start + j];
+                IntelligentItemData data = new IntelligentItemData(items.get(j), i, slot, false, false);
+
+                remove(slot, i);
+                addInventoryData(data);
+                loaded.add(data);
+            }
+            this.loadedPages.put(i, loaded);
+        }
+    }
+
+    /**
+     * @param pages The ascending pages of the source items.
+     * @param page  The page to look for.
+     * @return The index of the first source item that is on the page or on a later page.
+     */
+    private static int firstIndexOfPage(@NotNull int[] pages, int page) {
+        int low = 0;
+        int high = pages.length;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (pages[middle] < page)
+                low = middle + 1;
+            else
+                high = middle;
+        }
+        return low;
+    }
+
+    /**
+     * @return true if items are placed that are only visible on a single page.
+     */
+    protected boolean hasPageItems() {
+        return this.index.hasPageItems();
+    }
+
+    /**
+     * @return A bitmask of all slots that are occupied by items that are preset on all pages.
+     */
+    protected long presetSlots() {
+        return this.index.presetSlots();
     }
 
     /**
@@ -400,12 +548,15 @@ public class Pagination {
 
     /**
      * If the slotIterator is null or the end position is -1, return the itemsPerPage, otherwise return the end position
-     * minus the slot.
+     * minus the slot. The result is cached until the SlotIterator or the items per page change.
      *
      * @return The number of items per page.
      */
     private int calculateValueForPage() {
-        return this.slotIterator == null || this.slotIterator.getEndPosition() == -1
+        if (this.valueForPage != -1)
+            return this.valueForPage;
+
+        return this.valueForPage = this.slotIterator == null || this.slotIterator.getEndPosition() == -1
                 ? this.itemsPerPage
                 : this.slotIterator.getEndPosition() - this.slotIterator.getSlot() - this.slotIterator.getBlackListInternal().size();
     }
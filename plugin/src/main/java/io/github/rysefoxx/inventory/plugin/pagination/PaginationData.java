@@ -1,47 +1,87 @@
 package io.github.rysefoxx.inventory.plugin.pagination;
 
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nonnegative;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
-@NoArgsConstructor
 @Getter
 public class PaginationData {
 
-    private final List<Integer> slots = new ArrayList<>();
-    private final List<Integer> pages = new ArrayList<>();
+    private final List<Integer> slots;
+    private final List<Integer> pages;
+    @Getter(AccessLevel.NONE)
+    private int slotCursor;
+    @Getter(AccessLevel.NONE)
+    private int pageCursor;
 
+    public PaginationData() {
+        this.slots = new ArrayList<>();
+        this.pages = new ArrayList<>();
+    }
+
+    /**
+     * Copies the slots and pages that were not handed out yet.
+     *
+     * @param paginationData The data to copy.
+     */
     public PaginationData(@NotNull PaginationData paginationData) {
-        this.slots.addAll(paginationData.slots);
-        this.pages.addAll(paginationData.pages);
+        this.slots = unused(paginationData.slots, paginationData.slotCursor);
+        this.pages = unused(paginationData.pages, paginationData.pageCursor);
+    }
+
+    private PaginationData(@NotNull List<Integer> slots, @NotNull List<Integer> pages) {
+        this.slots = slots;
+        this.pages = pages;
+    }
+
+    private static @NotNull List<Integer> unused(@NotNull List<Integer> list, int cursor) {
+        return new ArrayList<>(list.subList(Math.min(cursor, list.size()), list.size()));
     }
 
     public @NotNull PaginationData newInstance() {
         return new PaginationData(this);
     }
 
+    /**
+     * Creates data that hands out the same slots and pages from the start without copying them. The returned data is
+     * read-only, so this data must not be changed afterwards either.
+     *
+     * @return The read-only data with its own cursors.
+     */
+    @NotNull PaginationData share() {
+        return new PaginationData(Collections.unmodifiableList(this.slots), Collections.unmodifiableList(this.pages));
+    }
+
     public void add(@Nonnegative int slot, @Nonnegative int page) {
         this.slots.add(slot);
         this.pages.add(page);
     }
 
     public int getFirstSlot() {
-        if (this.slots.isEmpty())
+        if (this.slotCursor >= this.slots.size())
             return -1;
 
-        return this.slots.remove(0);
+        return this.slots.get(this.slotCursor++);
     }
 
     public int getFirstPage() {
-        if (this.pages.isEmpty())
+        if (this.pageCursor >= this.pages.size())
             return -1;
 
-        return this.pages.remove(0);
+        return this.pages.get(this.pageCursor++);
+    }
+
+    /**
+     * @return The number of slots that were found.
+     */
+    public int size() {
+        return this.slots.size();
     }
 
     @Override
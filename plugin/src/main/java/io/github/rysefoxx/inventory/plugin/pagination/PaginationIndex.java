@@ -0,0 +1,254 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.pagination;
+
+import io.github.rysefoxx.inventory.plugin.content.IntelligentItemData;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.annotation.Nonnegative;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Index of the placed {@link IntelligentItemData} of a {@link Pagination}, so that a slot can be read without
+ * iterating over all items.
+ * <p>
+ * Every page has its own array with one entry per slot. Items that are preset on all pages are additionally stored in
+ * a separate layer, which takes precedence over the page itself.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/17/2026
+ */
+final class PaginationIndex {
+
+    private static final int SLOTS = 54;
+
+    private final HashMap<Integer, PageSlots> pages = new HashMap<>();
+    private int paginatedItems;
+    private int pageItems;
+    @SuppressWarnings("unchecked")
+    private final List<IntelligentItemData>[] presets = new List[SLOTS];
+
+    /**
+     * Adds new item data to the index. Item data that has not been placed yet (slot -1) is only counted.
+     *
+     * @param data The item data to add.
+     */
+    void add(@NotNull IntelligentItemData data) {
+        if (data.getOriginalSlot() == -1)
+            this.paginatedItems++;
+
+        place(data);
+    }
+
+    /**
+     * Adds item data that was already counted by {@link #add(IntelligentItemData)} and has now been placed to the index.
+     *
+     * @param data The item data to place.
+     */
+    void place(@NotNull IntelligentItemData data) {
+        int slot = data.getModifiedSlot();
+        if (slot < 0 || slot >= SLOTS) return;
+
+        PageSlots pageSlots = this.pages.computeIfAbsent(data.getPage(), page -> new PageSlots());
+        if (pageSlots.items[slot] == null)
+            pageSlots.items[slot] = data;
+
+        pageSlots.amount[slot]++;
+        pageSlots.size++;
+
+        if (!data.isPresetOnAllPages()) {
+            this.pageItems++;
+            return;
+        }
+
+        if (this.presets[slot] == null)
+            this.presets[slot] = new ArrayList<>(1);
+
+        this.presets[slot].add(data);
+    }
+
+    /**
+     * Removes all item data that is placed in the slot on the page.
+     *
+     * @param slot The slot
+     * @param page The page
+     * @return The number of removed entries.
+     */
+    int remove(int slot, int page) {
+        if (slot < 0 || slot >= SLOTS) return 0;
+
+        PageSlots pageSlots = this.pages.get(page);
+        if (pageSlots == null || pageSlots.amount[slot] == 0) return 0;
+
+        int removed = pageSlots.amount[slot];
+        pageSlots.items[slot] = null;
+        pageSlots.amount[slot] = 0;
+        pageSlots.size -= removed;
+
+        if (pageSlots.size == 0)
+            this.pages.remove(page);
+
+        int presetsRemoved = 0;
+        List<IntelligentItemData> presetList = this.presets[slot];
+        if (presetList != null) {
+            int before = presetList.size();
+            presetList.removeIf(data -> data.getPage() == page);
+            presetsRemoved = before - presetList.size();
+
+            if (presetList.isEmpty())
+                this.presets[slot] = null;
+        }
+
+        this.pageItems -= removed - presetsRemoved;
+        return removed;
+    }
+
+    /**
+     * Must be called for every item data that is removed from the pagination.
+     *
+     * @param data The removed item data.
+     */
+    void discard(@NotNull IntelligentItemData data) {
+        if (data.getOriginalSlot() == -1)
+            this.paginatedItems--;
+    }
+
+    /**
+     * @return The number of items that are distributed by the pagination and not set to a fixed slot.
+     */
+    @Nonnegative
+    int paginatedItems() {
+        return this.paginatedItems;
+    }
+
+    /**
+     * @return true if items are placed that are only visible on a single page.
+     */
+    boolean hasPageItems() {
+        return this.pageItems > 0;
+    }
+
+    /**
+     * @return A bitmask of all slots that are occupied by items that are preset on all pages.
+     */
+    long presetSlots() {
+        long mask = 0L;
+        for (int i = 0; i < SLOTS; i++) {
+            if (this.presets[i] != null)
+                mask |= 1L << i;
+        }
+        return mask;
+    }
+
+    /**
+     * @param slot The slot
+     * @param page The page
+     * @return The item data that is visible in the slot on the page, or null if the slot is empty.
+     */
+    @Nullable
+    IntelligentItemData get(int slot, int page) {
+        if (slot < 0 || slot >= SLOTS) return null;
+
+        List<IntelligentItemData> presetList = this.presets[slot];
+        if (presetList != null)
+            return presetList.get(0);
+
+        PageSlots pageSlots = this.pages.get(page);
+        return pageSlots == null ? null : pageSlots.items[slot];
+    }
+
+    /**
+     * @param slot The slot
+     * @param page The page
+     * @return The first item data that was placed in the slot on the page itself, or null if there is none.
+     */
+    @Nullable
+    IntelligentItemData getPlaced(int slot, int page) {
+        if (slot < 0 || slot >= SLOTS) return null;
+
+        PageSlots pageSlots = this.pages.get(page);
+        return pageSlots == null ? null : pageSlots.items[slot];
+    }
+
+    /**
+     * @param slot The slot
+     * @param page The page on which the item was preset.
+     * @return The item data that was preset on all pages from the given page, or null if there is none.
+     */
+    @Nullable
+    IntelligentItemData getPreset(int slot, int page) {
+        if (slot < 0 || slot >= SLOTS) return null;
+
+        List<IntelligentItemData> presetList = this.presets[slot];
+        if (presetList == null) return null;
+
+        for (IntelligentItemData data : presetList) {
+            if (data.getPage() == page) return data;
+        }
+        return null;
+    }
+
+    /**
+     * @param page The page
+     * @return All placed item data of the page, ordered by slot.
+     */
+    @NotNull
+    List<IntelligentItemData> getPage(@Nonnegative int page) {
+        PageSlots pageSlots = this.pages.get(page);
+        if (pageSlots == null) return new ArrayList<>();
+
+        List<IntelligentItemData> result = new ArrayList<>(pageSlots.size);
+        for (IntelligentItemData data : pageSlots.items) {
+            if (data != null) result.add(data);
+        }
+        return result;
+    }
+
+    /**
+     * Discards the index and builds it again from the given item data.
+     *
+     * @param inventoryData The item data to index.
+     */
+    void rebuild(@NotNull List<IntelligentItemData> inventoryData) {
+        this.pages.clear();
+        this.paginatedItems = 0;
+        this.pageItems = 0;
+        for (int i = 0; i < SLOTS; i++)
+            this.presets[i] = null;
+
+        for (IntelligentItemData data : inventoryData)
+            add(data);
+    }
+
+    private static final class PageSlots {
+        private final IntelligentItemData[] items = new IntelligentItemData[SLOTS];
+        private final int[] amount = new int[SLOTS];
+        private int size;
+    }
+}
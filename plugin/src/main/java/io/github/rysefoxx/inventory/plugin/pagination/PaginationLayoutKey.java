@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.pagination;
+
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Describes everything the free slot layout of a paginated inventory depends on. Inventories with the same key share
+ * the same layout, which is cached in the {@link InventoryManager}.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/17/2026
+ */
+final class PaginationLayoutKey {
+
+    private final SlotIterator.SlotIteratorType type;
+    private final int startSlot;
+    private final int endPosition;
+    private final boolean override;
+    private final List<Integer> blackList;
+    private final int size;
+    private final int itemsPerPage;
+    private final long occupiedSlots;
+
+    private PaginationLayoutKey(@NotNull SlotIterator iterator, int size, int itemsPerPage, long occupiedSlots) {
+        this.type = iterator.getType();
+        this.startSlot = iterator.getSlot();
+        this.endPosition = iterator.getEndPosition();
+        this.override = iterator.isOverride();
+        this.blackList = new ArrayList<>(iterator.getBlackListInternal());
+        this.size = size;
+        this.itemsPerPage = itemsPerPage;
+        this.occupiedSlots = occupiedSlots;
+    }
+
+    /**
+     * Creates the key for the current state of the pagination.
+     *
+     * @param pagination    The pagination whose items should be placed.
+     * @param iterator      The SlotIterator of the pagination.
+     * @param size          The size of the inventory.
+     * @param fixedPageSize The fixed page size of the inventory.
+     * @return The key, or null if the layout depends on items that are only placed on single pages and therefore
+     * cannot be shared.
+     */
+    static @Nullable PaginationLayoutKey of(@NotNull Pagination pagination,
+                                           @NotNull SlotIterator iterator,
+                                           int size,
+                                           int fixedPageSize) {
+        if (iterator.isOverride())
+            return new PaginationLayoutKey(iterator, size, pagination.getItemsPerPage(), 0L);
+
+        if (fixedPageSize != -1 || pagination.hasPageItems())
+            return null;
+
+        return new PaginationLayoutKey(iterator, size, pagination.getItemsPerPage(), pagination.presetSlots());
+    }
+
+    @Contract(value = "null -> false", pure = true)
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PaginationLayoutKey)) return false;
+        PaginationLayoutKey that = (PaginationLayoutKey) o;
+        return startSlot == that.startSlot
+                && endPosition == that.endPosition
+                && override == that.override
+                && size == that.size
+                && itemsPerPage == that.itemsPerPage
+                && occupiedSlots == that.occupiedSlots
+                && type == that.type
+                && blackList.equals(that.blackList);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, startSlot, endPosition, override, blackList, size, itemsPerPage, occupiedSlots);
+    }
+}
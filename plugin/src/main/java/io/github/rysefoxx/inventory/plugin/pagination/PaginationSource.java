@@ -0,0 +1,60 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022. Rysefoxx
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ *
+ */
+
+package io.github.rysefoxx.inventory.plugin.pagination;
+
+import io.github.rysefoxx.inventory.plugin.content.IntelligentItem;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nonnegative;
+import java.util.List;
+
+/**
+ * Supplies the items of a pagination on demand instead of adding all of them up front.
+ * {@link Pagination#source(PaginationSource)}
+ * <p>
+ * Only the items of the page that is currently loaded (and optionally its neighbours) are requested.
+ *
+ * @author Rysefoxx | Rysefoxx#6772
+ * @since 10/17/2026
+ */
+public interface PaginationSource {
+
+    /**
+     * @return The total number of items this source can provide.
+     */
+    @Nonnegative
+    int size();
+
+    /**
+     * Creates the items in the given range. This method is called on the main thread whenever a page is loaded.
+     *
+     * @param fromIndex The index of the first item (inclusive)
+     * @param toIndex   The index of the last item (exclusive)
+     * @return The items in the range. If fewer items are returned than requested, the remaining slots stay empty.
+     */
+    @NotNull
+    List<IntelligentItem> load(@Nonnegative int fromIndex, @Nonnegative int toIndex);
+}
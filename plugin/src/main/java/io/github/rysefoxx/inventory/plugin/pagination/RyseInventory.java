@@ -59,14 +59,16 @@ import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
 
 import javax.annotation.Nonnegative;
 import java.lang.reflect.Field;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import java.util.logging.Level;
 import java.util.stream.Collectors;
 
 @SuppressWarnings("unused")
@@ -80,12 +82,9 @@ public class RyseInventory {
 
     private RyseInventory originalInventory;
 
-    private PaginationData paginationCache;
-
     private InventoryManager manager;
     @Getter
     private InventoryProvider provider;
-    @Getter
     private @Nullable Inventory inventory;
     private SlideAnimation slideAnimator;
     @Getter(AccessLevel.PROTECTED)
@@ -112,6 +111,8 @@ public class RyseInventory {
     private boolean clearAndSafe;
     private boolean permanentCache;
     private boolean keepOriginal;
+    private boolean sharedView;
+    private boolean broadcastAnimations;
     private boolean closeAble = true;
     private boolean transferData = true;
 
@@ -125,20 +126,24 @@ public class RyseInventory {
     @NotNull
     private InventoryOpenerType inventoryOpenerType = InventoryOpenerType.CHEST;
 
-    private List<InventoryOptions> options = new ArrayList<>();
-    private List<DisabledInventoryClick> ignoreClickEvent = new ArrayList<>();
-    private List<CloseReason> closeReasons = new ArrayList<>();
+    private final EnumSet<InventoryOptions> options = EnumSet.noneOf(InventoryOptions.class);
+    private final EnumSet<DisabledInventoryClick> ignoreClickEvent = EnumSet.noneOf(DisabledInventoryClick.class);
+    private final EnumSet<CloseReason> closeReasons = EnumSet.noneOf(CloseReason.class);
     private List<EventCreator<? extends Event>> events = new CopyOnWriteArrayList<>();
     private List<IntelligentItemNameAnimator> itemAnimator = new CopyOnWriteArrayList<>();
     private List<IntelligentMaterialAnimator> materialAnimator = new CopyOnWriteArrayList<>();
     private List<IntelligentTitleAnimator> titleAnimator = new CopyOnWriteArrayList<>();
     private List<IntelligentItemLoreAnimator> loreAnimator = new CopyOnWriteArrayList<>();
-    private List<Action> enabledActions = new ArrayList<>();
-    private List<DisabledEvents> disabledEvents = new ArrayList<>();
+    private final EnumSet<Action> enabledActions = EnumSet.noneOf(Action.class);
+    private final EnumSet<DisabledEvents> disabledEvents = EnumSet.noneOf(DisabledEvents.class);
     private List<Page> pages = new CopyOnWriteArrayList<>();
     protected final List<Player> delayed = new ArrayList<>();
 
     private final HashMap<UUID, ItemStack[]> playerInventory = new HashMap<>();
+    private final HashMap<Integer, Inventory> sharedInventories = new HashMap<>();
+    private transient ClickPolicy clickPolicy;
+    private transient IdentityHashMap<Class<?>, EventCreator<?>[]> eventIndex;
+    private final transient HashMap<Object, AnimationTask> broadcastTasks = new HashMap<>();
     private HashMap<Integer, Consumer<InventoryClickEvent>> ignoredSlotsWithEvents = new HashMap<>();
 
     /**
@@ -170,7 +175,7 @@ public class RyseInventory {
         this.backward = inventory.backward;
         this.titleHolder = inventory.titleHolder;
         this.inventoryOpenerType = inventory.inventoryOpenerType;
-        this.ignoredSlotsWithEvents = inventory.ignoredSlotsWithEvents;
+        this.ignoredSlotsWithEvents = new HashMap<>(inventory.ignoredSlotsWithEvents);
         this.fixedPageSize = inventory.fixedPageSize;
         this.ignoreManualItems = inventory.ignoreManualItems;
         this.enabledActions.addAll(inventory.enabledActions);
@@ -187,6 +192,8 @@ public class RyseInventory {
         this.playerInventory.putAll(inventory.playerInventory);
         this.pages.addAll(inventory.pages);
         this.keepOriginal = inventory.keepOriginal;
+        this.sharedView = inventory.sharedView;
+        this.broadcastAnimations = inventory.broadcastAnimations;
         this.originalInventory = inventory;
 
     }
@@ -219,17 +226,18 @@ public class RyseInventory {
         inventory.backward = (boolean) data.get("backward");
         inventory.titleHolder = SERIALIZER.deserialize((String) data.get("title-holder"));
         inventory.inventoryOpenerType = InventoryOpenerType.valueOf((String) data.get("inventory-opener-type"));
-        inventory.options = (List<InventoryOptions>) data.get("options");
+        inventory.options.addAll((List<InventoryOptions>) data.get("options"));
         inventory.events = (List<EventCreator<? extends Event>>) data.get("events");
-        inventory.ignoreClickEvent = (List<DisabledInventoryClick>) data.get("ignore-click-event");
-        inventory.closeReasons = (List<CloseReason>) data.get("close-reasons");
+        inventory.ignoreClickEvent.addAll((List<DisabledInventoryClick>) data.get("ignore-click-event"));
+        inventory.closeReasons.addAll((List<CloseReason>) data.get("close-reasons"));
         inventory.itemAnimator = (List<IntelligentItemNameAnimator>) data.get("item-animator");
         inventory.materialAnimator = (List<IntelligentMaterialAnimator>) data.get("material-animator");
         inventory.titleAnimator = (List<IntelligentTitleAnimator>) data.get("title-animator");
         inventory.loreAnimator = (List<IntelligentItemLoreAnimator>) data.get("lore-animator");
-        inventory.ignoredSlotsWithEvents = (HashMap<Integer, Consumer<InventoryClickEvent>>) data.get("ignored-slots");
-        inventory.disabledEvents = (List<DisabledEvents>) data.get("disabled-events");
-        inventory.enabledActions = (List<Action>) data.get("enabled-actions");
+        Map<Integer, Consumer<InventoryClickEvent>> ignoredSlots = (Map<Integer, Consumer<InventoryClickEvent>>) data.get("ignored-slots");
+        inventory.ignoredSlotsWithEvents = ignoredSlots == null ? new HashMap<>() : new HashMap<>(ignoredSlots);
+        inventory.disabledEvents.addAll((List<DisabledEvents>) data.get("disabled-events"));
+        inventory.enabledActions.addAll((List<Action>) data.get("enabled-actions"));
         inventory.provider = (InventoryProvider) data.get("provider");
         inventory.identifier = data.get("identifier");
         inventory.plugin = Bukkit.getPluginManager().getPlugin((String) data.get("plugin"));
@@ -241,6 +249,8 @@ public class RyseInventory {
             inventory.originalInventory = deserialize((Map<String, Object>) data.get("original-inventory"), manager);
         }
         inventory.keepOriginal = (boolean) data.get("keep-original");
+        inventory.sharedView = Boolean.TRUE.equals(data.get("shared-view"));
+        inventory.broadcastAnimations = Boolean.TRUE.equals(data.get("broadcast-animations"));
 
         return inventory;
     }
@@ -258,6 +268,8 @@ public class RyseInventory {
         }
         map.put("keep-original", this.keepOriginal);
         map.put("permanent-cache", this.permanentCache);
+        map.put("shared-view", this.sharedView);
+        map.put("broadcast-animations", this.broadcastAnimations);
         map.put("title", SERIALIZER.serialize(this.title));
         map.put("size", this.size);
         map.put("delay", this.delay);
@@ -272,10 +284,10 @@ public class RyseInventory {
         map.put("backward", this.backward);
         map.put("title-holder", SERIALIZER.serialize(this.titleHolder));
         map.put("inventory-opener-type", this.inventoryOpenerType.toString());
-        map.put("options", this.options);
+        map.put("options", new ArrayList<>(this.options));
         map.put("events", this.events);
-        map.put("ignore-click-event", this.ignoreClickEvent);
-        map.put("close-reasons", this.closeReasons);
+        map.put("ignore-click-event", new ArrayList<>(this.ignoreClickEvent));
+        map.put("close-reasons", new ArrayList<>(this.closeReasons));
         map.put("item-animator", this.itemAnimator);
         map.put("material-animator", this.materialAnimator);
         map.put("title-animator", this.titleAnimator);
@@ -284,8 +296,8 @@ public class RyseInventory {
         map.put("identifier", this.identifier);
         map.put("clear-and-safe", this.clearAndSafe);
         map.put("ignored-slots", this.ignoredSlotsWithEvents);
-        map.put("disabled-events", this.disabledEvents);
-        map.put("enabled-actions", this.enabledActions);
+        map.put("disabled-events", new ArrayList<>(this.disabledEvents));
+        map.put("enabled-actions", new ArrayList<>(this.enabledActions));
         map.put("fixed-page-size", this.fixedPageSize);
         map.put("ignore-manual-items", this.ignoreManualItems);
         map.put("pages", this.pages);
@@ -399,8 +411,7 @@ public class RyseInventory {
 
         if (preCloseEvent.isCancelled()) return;
 
-        this.paginationCache = null;
-        removeActiveAnimations();
+        removeActiveAnimations(player);
         clearData(player);
         player.closeInventory();
 
@@ -414,12 +425,17 @@ public class RyseInventory {
      * @return The list with all found players.
      */
     public @NotNull List<UUID> getOpenedPlayers() {
-        List<UUID> players = new ArrayList<>();
-        Bukkit.getOnlinePlayers().forEach(player -> this.manager.getInventory(player.getUniqueId()).ifPresent(savedInventory -> {
-            if (!this.equals(savedInventory)) return;
-            players.add(player.getUniqueId());
-        }));
-        return players;
+        return this.manager.getOpenedPlayers(this);
+    }
+
+    /**
+     * Get all players who have a certain inventory open
+     *
+     * @return A read-only live view of all players who have the inventory open.
+     * @see InventoryManager#getViewers(RyseInventory)
+     */
+    public @NotNull Set<UUID> getViewers() {
+        return this.manager.getViewers(this);
     }
 
     /**
@@ -657,13 +673,18 @@ public class RyseInventory {
         }
 
         finishSavedInventory(player);
-        removeActiveAnimations();
+        removeActiveAnimations(player);
 
         clearInventoryWhenNeeded(player);
 
         page--;
 
-        this.inventory = setupInventory(page);
+        CompletableFuture<Consumer<InventoryContents>> pending = this.inventoryOpenerType == InventoryOpenerType.ANVIL
+                ? null
+                : this.provider.initAsync(player);
+
+        this.manager.setViewerInventory(player.getUniqueId(), setupInventory(page, pending != null));
+        releaseSharedInventories();
 
         InventoryContents contents = new InventoryContents(player, this, this.plugin);
         Optional<InventoryContents> optional = this.manager.getContents(player.getUniqueId());
@@ -682,6 +703,15 @@ public class RyseInventory {
 
         this.manager.stopUpdate(player.getUniqueId());
 
+        if (pending != null) {
+            load(pagination, player, page);
+            closeInventoryWhenEnabled(player);
+
+            finalizeInventoryAndOpen(player, contents);
+            applyWhenLoaded(player, page, contents, pending);
+            return;
+        }
+
         loadByPage(contents);
 
         if (page > pagination.lastPage()) {
@@ -695,6 +725,91 @@ public class RyseInventory {
         finalizeInventoryAndOpen(player, contents);
     }
 
+    /**
+     * Applies the data of {@link InventoryProvider#initAsync(Player)} on the main thread as soon as it has been loaded,
+     * lays out the pagination and places the page.
+     *
+     * @param player   The player who is viewing the inventory.
+     * @param page     The page that is opened.
+     * @param contents The contents that were created when the inventory was opened.
+     * @param pending  The future that loads the data.
+     */
+    private void applyWhenLoaded(@NotNull Player player,
+                                 @Nonnegative int page,
+                                 @NotNull InventoryContents contents,
+                                 @NotNull CompletableFuture<Consumer<InventoryContents>> pending) {
+        pending.whenComplete((result, throwable) -> Bukkit.getScheduler().runTask(this.plugin, () -> {
+            if (throwable != null) {
+                this.plugin.getLogger().log(Level.SEVERE, "The data of the inventory could not be loaded", throwable);
+                failLoaded(player, contents, throwable);
+                return;
+            }
+            applyLoaded(player, page, contents, result);
+        }));
+    }
+
+    /**
+     * Closes the inventory because its data could not be loaded and informs the provider. If the inventory has not
+     * been opened yet because of an open delay, it is tried again one tick later.
+     *
+     * @param player    The player who is viewing the inventory.
+     * @param contents  The contents that were created when the inventory was opened.
+     * @param throwable The error the data could not be loaded with.
+     */
+    private void failLoaded(@NotNull Player player,
+                            @NotNull InventoryContents contents,
+                            @NotNull Throwable throwable) {
+        Optional<InventoryContents> current = this.manager.getContents(player.getUniqueId());
+        if (current.isPresent() && current.get() == contents) {
+            if (!this.manager.getInventory(player.getUniqueId()).filter(this::equals).isPresent()) {
+                Bukkit.getScheduler().runTaskLater(this.plugin, () -> failLoaded(player, contents, throwable), 1);
+                return;
+            }
+            close(player);
+        }
+
+        this.provider.initAsyncFailed(player, throwable);
+    }
+
+    /**
+     * Applies the loaded data if the player still views the contents. If the inventory has not been opened yet
+     * because of an open delay, it is tried again one tick later.
+     *
+     * @param player   The player who is viewing the inventory.
+     * @param page     The page that is opened.
+     * @param contents The contents that were created when the inventory was opened.
+     * @param result   The consumer that applies the loaded data.
+     */
+    private void applyLoaded(@NotNull Player player,
+                             @Nonnegative int page,
+                             @NotNull InventoryContents contents,
+                             @Nullable Consumer<InventoryContents> result) {
+        Optional<InventoryContents> current = this.manager.getContents(player.getUniqueId());
+        if (!current.isPresent() || current.get() != contents) return;
+
+        if (!this.manager.getInventory(player.getUniqueId()).filter(this::equals).isPresent()) {
+            Bukkit.getScheduler().runTaskLater(this.plugin, () -> applyLoaded(player, page, contents, result), 1);
+            return;
+        }
+
+        if (result != null)
+            result.accept(contents);
+
+        Pagination pagination = contents.pagination();
+        checkIfIllegalPaginationData(pagination);
+        loadByPage(contents);
+
+        if (page > pagination.lastPage()) {
+            close(player);
+            throw new IllegalArgumentException("There is no " + page + " side. Last page is " + pagination.lastPage());
+        }
+
+        loadDelay(page, pagination, player);
+
+        if (this.loadTitle == -1 && this.title != null)
+            updateTitle(player, this.title);
+    }
+
     /**
      * Opens the original inventory to the player.
      *
@@ -731,10 +846,63 @@ public class RyseInventory {
      * @param event The event what you want to get
      * @return null if there is no custom event matching the event class
      */
+    @SuppressWarnings("unchecked")
     public @Nullable EventCreator<? extends Event> getEvent(@NotNull Class<? extends Event> event) {
-        return this.events.stream().filter(eventOne -> event == eventOne.getClazz())
-                .findFirst()
-                .orElse(null);
+        EventCreator<?>[] creators = eventIndex().get(event);
+        if (creators == null) return null;
+
+        return (EventCreator<? extends Event>) creators[0];
+    }
+
+    /**
+     * Calls all custom events of the given event class in the order of their priority.
+     *
+     * @param type  The event class
+     * @param event The event
+     * @param <T>   The type of the event
+     * @return true if at least one custom event was called.
+     */
+    @ApiStatus.Internal
+    @SuppressWarnings("unchecked")
+    public <T extends Event> boolean callEvent(@NotNull Class<T> type, @NotNull T event) {
+        EventCreator<?>[] creators = eventIndex().get(type);
+        if (creators == null) return false;
+
+        for (EventCreator<?> creator : creators)
+            ((EventCreator<T>) creator).accept(event);
+        return true;
+    }
+
+    /**
+     * @param type The event class
+     * @return true if there is a custom event for the given event class.
+     */
+    public boolean hasEvent(@NotNull Class<? extends Event> type) {
+        return eventIndex().containsKey(type);
+    }
+
+    /**
+     * Returns the custom events indexed by their event class. Custom events can only be added by the builder, so the
+     * index is only created once.
+     *
+     * @return The custom events of every event class, sorted by priority.
+     */
+    private @NotNull IdentityHashMap<Class<?>, EventCreator<?>[]> eventIndex() {
+        IdentityHashMap<Class<?>, EventCreator<?>[]> index = this.eventIndex;
+        if (index != null) return index;
+
+        HashMap<Class<?>, List<EventCreator<?>>> grouped = new LinkedHashMap<>();
+        for (EventCreator<? extends Event> creator : this.events)
+            grouped.computeIfAbsent(creator.getClazz(), key -> new ArrayList<>()).add(creator);
+
+        index = new IdentityHashMap<>();
+        for (Map.Entry<Class<?>, List<EventCreator<?>>> entry : grouped.entrySet()) {
+            EventCreator<?>[] creators = entry.getValue().toArray(new EventCreator<?>[0]);
+            Arrays.sort(creators, (first, second) -> first.getPriority().compareTo(second.getPriority()));
+            index.put(entry.getKey(), creators);
+        }
+
+        return this.eventIndex = index;
     }
 
     /**
@@ -823,17 +991,49 @@ public class RyseInventory {
      *
      * @return A list of DisabledInventoryClick objects.
      */
-    public @NotNull List<DisabledInventoryClick> getIgnoreClickEvent() {
-        return this.ignoreClickEvent;
+    public @NotNull @Unmodifiable List<DisabledInventoryClick> getIgnoreClickEvent() {
+        return Collections.unmodifiableList(new ArrayList<>(this.ignoreClickEvent));
+    }
+
+    /**
+     * @param click The side of the inventory.
+     * @return true if the InventoryClickEvent is ignored for the given side.
+     */
+    public boolean isClickEventIgnored(@NotNull DisabledInventoryClick click) {
+        return this.ignoreClickEvent.contains(click);
     }
 
     /**
-     * Returns a list of slots that are ignored by the plugin.
+     * Returns the slots that are ignored by the plugin with their consumers. Use the methods of
+     * {@link InventoryContents} to change them.
      *
-     * @return A list of integers.
+     * @return A read-only view of the ignored slots.
      */
-    public @NotNull HashMap<Integer, Consumer<InventoryClickEvent>> getIgnoredSlots() {
-        return ignoredSlotsWithEvents;
+    public @NotNull @Unmodifiable Map<Integer, Consumer<InventoryClickEvent>> getIgnoredSlots() {
+        return Collections.unmodifiableMap(this.ignoredSlotsWithEvents);
+    }
+
+    /**
+     * Ignores the slot or replaces its consumer.
+     *
+     * @param slot  The slot.
+     * @param event The consumer that is called when the slot is clicked, or null.
+     */
+    @ApiStatus.Internal
+    public void setIgnoredSlot(@Nonnegative int slot, @Nullable Consumer<InventoryClickEvent> event) {
+        this.ignoredSlotsWithEvents.put(slot, event);
+        invalidateClickPolicy();
+    }
+
+    /**
+     * Removes the slot from the ignored slots.
+     *
+     * @param slot The slot.
+     */
+    @ApiStatus.Internal
+    public void removeIgnoredSlot(@Nonnegative int slot) {
+        this.ignoredSlotsWithEvents.remove(slot);
+        invalidateClickPolicy();
     }
 
     /**
@@ -841,8 +1041,16 @@ public class RyseInventory {
      *
      * @return A list of enabled actions.
      */
-    public @NotNull List<Action> getEnabledActions() {
-        return enabledActions;
+    public @NotNull @Unmodifiable List<Action> getEnabledActions() {
+        return Collections.unmodifiableList(new ArrayList<>(this.enabledActions));
+    }
+
+    /**
+     * @param action The action to check.
+     * @return true if the action was enabled with {@link Builder#enableAction(Action...)}.
+     */
+    public boolean isActionEnabled(@NotNull Action action) {
+        return this.enabledActions.contains(action);
     }
 
     /**
@@ -850,8 +1058,16 @@ public class RyseInventory {
      *
      * @return A list of DisabledEvents objects.
      */
-    public @NotNull List<DisabledEvents> getDisabledEvents() {
-        return disabledEvents;
+    public @NotNull @Unmodifiable List<DisabledEvents> getDisabledEvents() {
+        return Collections.unmodifiableList(new ArrayList<>(this.disabledEvents));
+    }
+
+    /**
+     * @param event The event to check.
+     * @return true if the event was disabled with {@link Builder#ignoreEvents(DisabledEvents...)}.
+     */
+    public boolean isEventDisabled(@NotNull DisabledEvents event) {
+        return this.disabledEvents.contains(event);
     }
 
     /**
@@ -884,8 +1100,16 @@ public class RyseInventory {
      *
      * @return A list of InventoryOptions
      */
-    public @NotNull List<InventoryOptions> getOptions() {
-        return options;
+    public @NotNull @Unmodifiable List<InventoryOptions> getOptions() {
+        return Collections.unmodifiableList(new ArrayList<>(this.options));
+    }
+
+    /**
+     * @param option The option to check.
+     * @return true if the option was set with {@link Builder#options(InventoryOptions...)}.
+     */
+    public boolean hasOption(@NotNull InventoryOptions option) {
+        return this.options.contains(option);
     }
 
     /**
@@ -913,13 +1137,77 @@ public class RyseInventory {
      */
     protected @Nonnegative int activeSlideAnimatorTasks() {
         if (this.slideAnimator == null) return 0;
-        AtomicInteger counter = new AtomicInteger();
+        int counter = 0;
 
-        this.slideAnimator.getTasks().forEach(task -> {
-            if (!Bukkit.getScheduler().isQueued(task.getTaskId())) return;
-            counter.getAndIncrement();
-        });
-        return counter.get();
+        for (AnimationTask task : this.slideAnimator.getTasks()) {
+            if (task.isQueued())
+                counter++;
+        }
+        return counter;
+    }
+
+    /**
+     * Returns the compiled click configuration of the inventory. It is compiled again if it was invalidated in the
+     * meantime.
+     *
+     * @return The click policy.
+     */
+    @NotNull ClickPolicy getClickPolicy() {
+        ClickPolicy policy = this.clickPolicy;
+        if (policy == null)
+            this.clickPolicy = policy = new ClickPolicy(this);
+
+        return policy;
+    }
+
+    /**
+     * Discards the compiled click configuration, so that it is compiled again on the next click.
+     */
+    @ApiStatus.Internal
+    public void invalidateClickPolicy() {
+        this.clickPolicy = null;
+    }
+
+    /**
+     * Returns true if the animations of this inventory are played once for all players.
+     *
+     * @return true if the animations are broadcast.
+     * @see Builder#broadcastAnimations()
+     */
+    public boolean isBroadcastAnimations() {
+        return this.broadcastAnimations;
+    }
+
+    /**
+     * Returns the running broadcast animation with the given key, so that an animator can join it instead of starting
+     * the animation again.
+     *
+     * @param key The key of the animation, e.g. the animator type and the slot.
+     * @return The task of the running animation or null if the animations are not broadcast or no such animation is
+     * running.
+     */
+    @ApiStatus.Internal
+    public @Nullable AnimationTask getBroadcastAnimation(@NotNull Object key) {
+        if (!this.broadcastAnimations) return null;
+
+        AnimationTask task = this.broadcastTasks.get(key);
+        if (task != null && task.isQueued()) return task;
+
+        this.broadcastTasks.remove(key);
+        return null;
+    }
+
+    /**
+     * Registers a started animation as the broadcast animation for its key.
+     *
+     * @param key  The key of the animation.
+     * @param task The task of the animation.
+     */
+    @ApiStatus.Internal
+    public void addBroadcastAnimation(@NotNull Object key, @NotNull AnimationTask task) {
+        if (!this.broadcastAnimations) return;
+
+        this.broadcastTasks.put(key, task);
     }
 
     /**
@@ -927,8 +1215,16 @@ public class RyseInventory {
      *
      * @return A list of CloseReason objects.
      */
-    protected @NotNull List<CloseReason> getCloseReasons() {
-        return closeReasons;
+    protected @NotNull @Unmodifiable List<CloseReason> getCloseReasons() {
+        return Collections.unmodifiableList(new ArrayList<>(this.closeReasons));
+    }
+
+    /**
+     * @param reason The close reason to check.
+     * @return true if the inventory is closed for the given reason.
+     */
+    protected boolean hasCloseReason(@NotNull CloseReason reason) {
+        return this.closeReasons.contains(reason);
     }
 
     /**
@@ -1001,7 +1297,26 @@ public class RyseInventory {
         if (this.anvilGUI != null)
             return Optional.of(this.anvilGUI.getInventory());
 
-        return Optional.ofNullable(this.inventory);
+        return this.manager.getViewerInventory(uuid);
+    }
+
+    /**
+     * Returns the Bukkit inventory that was built for the player.
+     *
+     * @param player The player
+     * @return the inventory of the player or an empty optional if the inventory was not opened for him.
+     */
+    public @NotNull Optional<Inventory> getInventory(@NotNull Player player) {
+        return inventoryBasedOnOption(player.getUniqueId());
+    }
+
+    /**
+     * @return the Bukkit inventory that was built last.
+     * @deprecated Every player has his own inventory. Use {@link #getInventory(Player)} instead.
+     */
+    @Deprecated
+    public @Nullable Inventory getInventory() {
+        return this.inventory;
     }
 
     /**
@@ -1020,6 +1335,17 @@ public class RyseInventory {
         return clearAndSafe == that.clearAndSafe && size == that.size && delay == that.delay && openDelay == that.openDelay && period == that.period && closeAfter == that.closeAfter && loadDelay == that.loadDelay && loadTitle == that.loadTitle && closeAble == that.closeAble && transferData == that.transferData && Objects.equals(title, that.title) && Objects.equals(slideAnimator, that.slideAnimator) && Objects.equals(identifier, that.identifier) && Objects.equals(titleHolder, that.titleHolder) && inventoryOpenerType == that.inventoryOpenerType && Objects.equals(options, that.options) && Objects.equals(events, that.events) && Objects.equals(ignoreClickEvent, that.ignoreClickEvent) && Objects.equals(closeReasons, that.closeReasons);
     }
 
+    /**
+     * Only the fields that cannot be changed after the inventory has been built are included, so that the hash code
+     * stays stable while the inventory is open.
+     *
+     * @return The hashcode of the object.
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(size, title, identifier, inventoryOpenerType);
+    }
+
     /**
      * Loads the items of the given page into the inventory of the given player.
      *
@@ -1031,9 +1357,10 @@ public class RyseInventory {
     public void load(@NotNull Pagination pagination,
                      @NotNull Player player,
                      @Nonnegative int page) {
-        pagination.getDataByPage(page)
-                .stream().filter(item -> item.getModifiedSlot() != -1)
-                .forEach(item -> placeItem(player, item.getModifiedSlot(), item.getItem()));
+        pagination.loadSourcePage(page);
+
+        for (IntelligentItemData item : pagination.getDataByPage(page))
+            placeItem(player, item.getModifiedSlot(), item.getItem());
     }
 
     /**
@@ -1050,16 +1377,17 @@ public class RyseInventory {
             throw new IllegalArgumentException("An attempt is made to place an item in slot -1. Check your pagination. If you could determine that it is not your error, report it on Github.");
         }
 
-        if (this.inventory != null)
-            if (slot >= this.inventory.getSize()) return;
+        Inventory inventory = this.manager.getViewerInventory(player.getUniqueId()).orElse(null);
+        if (inventory != null)
+            if (slot >= inventory.getSize()) return;
 
         if (!item.isCanSee()) {
             item.getError().cantSee(player, item);
             return;
         }
 
-        if (this.inventory != null)
-            this.inventory.setItem(slot, item.getItemStack());
+        if (inventory != null)
+            inventory.setItem(slot, item.getItemStack());
     }
 
     /**
@@ -1077,6 +1405,27 @@ public class RyseInventory {
         Bukkit.getScheduler().runTaskLater(this.plugin, () -> close(player), this.closeAfter);
     }
 
+    /**
+     * Removes the active animations when the player opens or closes the inventory. Broadcast animations are shared by
+     * all players, so they are kept as long as another player still views the inventory. Slides are always removed.
+     *
+     * @param player The player who opens or closes the inventory.
+     */
+    private void removeActiveAnimations(@NotNull Player player) {
+        if (!this.broadcastAnimations) {
+            removeActiveAnimations();
+            return;
+        }
+
+        for (UUID viewer : getViewers()) {
+            if (viewer.equals(player.getUniqueId())) continue;
+
+            removeSlideAnimator();
+            return;
+        }
+        removeActiveAnimations();
+    }
+
     /**
      * It removes all the active animations
      */
@@ -1136,12 +1485,43 @@ public class RyseInventory {
     }
 
     /**
-     * It creates an inventory with the title of the menu and the size of the menu
+     * It creates an inventory with the title of the menu and the size of the menu. In a shared view, the inventory of
+     * the page is reused as long as a player still has it, even if the player does not see it yet because of an open
+     * delay.
      *
      * @param pageNumber The page number that the inventory is being opened for.
+     * @param loading    Whether the data of the inventory is still being loaded.
      * @return An Inventory
      */
-    private @NotNull Inventory setupInventory(@Nonnegative int pageNumber) {
+    private @NotNull Inventory setupInventory(@Nonnegative int pageNumber, boolean loading) {
+        if (!this.sharedView)
+            return this.inventory = createInventory(pageNumber, loading);
+
+        Inventory shared = this.sharedInventories.get(pageNumber);
+        if (shared == null || !this.manager.hasViewerInventory(shared)) {
+            shared = createInventory(pageNumber, loading);
+            this.sharedInventories.put(pageNumber, shared);
+        }
+        return this.inventory = shared;
+    }
+
+    /**
+     * Removes the inventories of the pages in a shared view that no player has anymore.
+     */
+    private void releaseSharedInventories() {
+        if (this.sharedInventories.isEmpty()) return;
+
+        this.sharedInventories.values().removeIf(shared -> !this.manager.hasViewerInventory(shared));
+    }
+
+    /**
+     * It creates a new Bukkit inventory with the title of the menu and the size of the page.
+     *
+     * @param pageNumber The page number that the inventory is being opened for.
+     * @param loading    Whether the data of the inventory is still being loaded.
+     * @return An Inventory
+     */
+    private @NotNull Inventory createInventory(@Nonnegative int pageNumber, boolean loading) {
         int finalSize = this.size;
 
         if (finalSize == -1 && !this.pages.isEmpty()) {
@@ -1153,12 +1533,12 @@ public class RyseInventory {
             finalSize = finalPage.rows() * 9;
         }
 
-        String title = buildTitle();
+        String title = loading ? SERIALIZER.serialize(this.titleHolder) : buildTitle();
         if (this.inventoryOpenerType == InventoryOpenerType.CHEST) {
             return Bukkit.createInventory(null, finalSize, title);
         }
 
-        return inventory = Bukkit.createInventory(null, this.inventoryOpenerType.getType(), title);
+        return Bukkit.createInventory(null, this.inventoryOpenerType.getType(), title);
     }
 
     /**
@@ -1318,7 +1698,8 @@ public class RyseInventory {
      * @param player The player who will open the inventory.
      */
     private void openInventory(@NotNull Player player, @NotNull InventoryContents contents) {
-        if (Objects.requireNonNull(inventory).getType() == InventoryType.ANVIL) {
+        Inventory inventory = this.manager.getViewerInventory(player.getUniqueId()).orElseThrow(NullPointerException::new);
+        if (inventory.getType() == InventoryType.ANVIL) {
             this.anvilGUI = this.anvilGUIBuilder.open(player);
         } else {
             player.openInventory(inventory);
@@ -1343,27 +1724,6 @@ public class RyseInventory {
         }
     }
 
-    /**
-     * Get the item in the given slot on the given page.
-     * <p>
-     * The first thing you'll notice is that the function is private. This is because it's only used internally by the
-     * class
-     *
-     * @param inventoryData The list of IntelligentItemData objects that are stored in the inventory.
-     * @param slot          The slot in the inventory that you want to get the item from.
-     * @param page          The page of the inventory.
-     * @return The item in the slot and page.
-     */
-    private @Nullable IntelligentItem get(@NotNull List<IntelligentItemData> inventoryData,
-                                          @Nonnegative int slot,
-                                          @Nonnegative int page) {
-        for (IntelligentItemData data : inventoryData) {
-            if (data.getPage() == page && data.getModifiedSlot() == slot)
-                return data.getItem();
-        }
-        return null;
-    }
-
     /**
      * If the iterator type is horizontal, increment the slot by one. If the iterator type is vertical, increment the slot
      * by nine.
@@ -1403,6 +1763,7 @@ public class RyseInventory {
 
         this.delayed.remove(player);
         this.manager.removeInventoryFromPlayer(player.getUniqueId());
+        releaseSharedInventories();
     }
 
     /**
@@ -1435,7 +1796,6 @@ public class RyseInventory {
     public void removeMaterialAnimator(@NotNull IntelligentMaterialAnimator animator) {
         this.materialAnimator.remove(animator);
 
-        if (!Bukkit.getScheduler().isQueued(animator.getTask().getTaskId())) return;
         animator.getTask().cancel();
     }
 
@@ -1448,7 +1808,6 @@ public class RyseInventory {
     public void removeItemAnimator(@NotNull IntelligentItemNameAnimator animator) {
         this.itemAnimator.remove(animator);
 
-        if (!Bukkit.getScheduler().isQueued(animator.getTask().getTaskId())) return;
         animator.getTask().cancel();
     }
 
@@ -1471,7 +1830,6 @@ public class RyseInventory {
     public void removeTitleAnimator(@NotNull IntelligentTitleAnimator animator) {
         this.titleAnimator.remove(animator);
 
-        if (!Bukkit.getScheduler().isQueued(animator.getTask().getTaskId())) return;
         animator.getTask().cancel();
     }
 
@@ -1494,10 +1852,7 @@ public class RyseInventory {
     public void removeLoreAnimator(@NotNull IntelligentItemLoreAnimator animator) {
         this.loreAnimator.remove(animator);
 
-        animator.getTasks().forEach(bukkitTask -> {
-            if (!Bukkit.getScheduler().isQueued(bukkitTask.getTaskId())) return;
-            bukkitTask.cancel();
-        });
+        animator.getTasks().forEach(AnimationTask::cancel);
     }
 
     /**
@@ -1507,10 +1862,7 @@ public class RyseInventory {
     protected void removeSlideAnimator() {
         if (this.slideAnimator == null) return;
 
-        this.slideAnimator.getTasks().forEach(bukkitTask -> {
-            if (!Bukkit.getScheduler().isQueued(bukkitTask.getTaskId())) return;
-            bukkitTask.cancel();
-        });
+        this.slideAnimator.getTasks().forEach(AnimationTask::cancel);
         this.slideAnimator.clearTasks();
     }
 
@@ -1531,17 +1883,18 @@ public class RyseInventory {
 
         checkIfInventoryTypeIsValid(pattern);
 
-        int itemsSet = 0;
-        int page = 0;
         int startSlot = iterator.getSlot();
         List<IntelligentItemData> data = contents.pagination().getInventoryData();
 
+        PaginationSource source = pagination.getSource();
+        int sourceSize = source == null ? 0 : source.size();
+
         if (pattern != null) {
-            applyPattern(pagination, iterator, pattern, data.stream().filter(d -> d.getModifiedSlot() == -1).collect(Collectors.toList()), contents, itemsSet, page, startSlot);
+            applyPattern(pagination, iterator, pattern, data.stream().filter(d -> d.getModifiedSlot() == -1).collect(Collectors.toList()), contents, startSlot, sourceSize);
             return;
         }
 
-        applyStandardPagination(contents, pagination, iterator, data.stream().filter(d -> d.getModifiedSlot() == -1).collect(Collectors.toList()), type);
+        applyStandardPagination(contents, pagination, iterator, data.stream().filter(d -> d.getModifiedSlot() == -1).collect(Collectors.toList()), type, sourceSize);
         contents.pagination().setInventoryData(data);
     }
 
@@ -1552,19 +1905,16 @@ public class RyseInventory {
      * @param pagination The pagination object that is being used.
      * @param iterator   The slot iterator that is being used.
      * @param data       The list of items to be paginated.
+     * @param sourceSize The number of items that are loaded on demand from the source of the pagination.
      */
     private void applyStandardPagination(@NotNull InventoryContents contents,
                                          @NotNull Pagination pagination,
                                          @NotNull SlotIterator iterator,
                                          @NotNull List<IntelligentItemData> data,
-                                         @NotNull SlotIterator.SlotIteratorType type) {
-
-        PaginationData paginationData = this.paginationCache == null
-                ? findAllEmptySlots(contents, iterator, data.size(), type)
-                : this.paginationCache.newInstance();
+                                         @NotNull SlotIterator.SlotIteratorType type,
+                                         @Nonnegative int sourceSize) {
 
-        if (this.paginationCache == null)
-            this.paginationCache = paginationData.newInstance();
+        PaginationData paginationData = findPaginationLayout(contents, iterator, data.size() + sourceSize, type);
 
         for (int i = 0; i < data.size(); i++) {
             IntelligentItemData itemData = data.get(i);
@@ -1577,10 +1927,45 @@ public class RyseInventory {
                 continue;
 
             pagination.remove(slot, page);
+            pagination.place(itemData, slot, page);
+        }
+
+        if (sourceSize == 0) return;
 
-            itemData.setPage(page);
-            itemData.setModifiedSlot(slot);
+        int[] slots = new int[sourceSize];
+        int[] pages = new int[sourceSize];
+        for (int i = 0; i < sourceSize; i++) {
+            slots[i] = paginationData.getFirstSlot();
+            pages[i] = paginationData.getFirstPage();
         }
+        pagination.setSourceLayout(slots, pages);
+    }
+
+    /**
+     * Returns the free slot layout for the pagination. If the layout does not depend on items that are only placed on
+     * single pages, it is taken from the cache of the manager, or calculated once and stored there.
+     *
+     * @param contents      The InventoryContents object that contains all the information about the inventory.
+     * @param iterator      The slot iterator that is being used.
+     * @param requiredSlots How many slots are needed.
+     * @param type          The type of the slot iterator.
+     * @return The free slots and their pages.
+     */
+    private @NotNull PaginationData findPaginationLayout(@NotNull InventoryContents contents,
+                                                         @NotNull SlotIterator iterator,
+                                                         @Nonnegative int requiredSlots,
+                                                         @NotNull SlotIterator.SlotIteratorType type) {
+        PaginationLayoutKey key = PaginationLayoutKey.of(contents.pagination(), iterator, size(contents), this.fixedPageSize);
+        if (key == null)
+            return findAllEmptySlots(contents, iterator, requiredSlots, type);
+
+        PaginationData cached = this.manager.getPaginationLayout(key);
+        if (cached != null && cached.size() >= requiredSlots)
+            return cached;
+
+        PaginationData layout = findAllEmptySlots(contents, iterator, requiredSlots, type);
+        this.manager.cachePaginationLayout(key, layout);
+        return layout;
     }
 
     private @NotNull PaginationData findAllEmptySlots(@NotNull InventoryContents contents,
@@ -1655,76 +2040,82 @@ public class RyseInventory {
 
     /**
      * It applies the pattern to the inventory
+     * <p>
+     * Every page uses the same slots, so they are calculated once and the items are then distributed in a single pass.
      *
      * @param pagination The pagination object that contains the items per page, the page, and the inventory.
      * @param iterator   The iterator that will be used to iterate through the slots.
      * @param pattern    The pattern that will be applied to the inventory.
      * @param data       The list of IntelligentItemData objects that are being applied to the inventory.
-     * @param itemsSet   The amount of items that have been set on the current page.
-     * @param page       The page number of the inventory
      * @param startSlot  The slot where the pagination starts.
+     * @param sourceSize The number of items that are loaded on demand from the source of the pagination.
+     * @throws IllegalStateException if the pattern does not provide a single slot for the items.
      */
     private void applyPattern(@NotNull Pagination pagination,
                               @NotNull SlotIterator iterator,
                               @NotNull SlotIteratorPattern pattern,
                               @NotNull List<IntelligentItemData> data,
                               @NotNull InventoryContents contents,
-                              @Nonnegative int itemsSet,
-                              @Nonnegative int page,
-                              int startSlot) {
-        int slot = startSlot;
-        if (startSlot == -1) {
-            startSlot = 0;
-            slot = startSlot;
-        }
-
-        List<String> lines = pattern.getLines();
-
-        do {
-            for (int j = 0; j < lines.size(); j++) {
-                String line = lines.get(j);
-                char[] charArray = line.toCharArray();
-                for (char lineChar : charArray) {
-                    if ((itemsSet >= pagination.getItemsPerPage() && iterator.getEndPosition() == -1)
-                            || slot > pagination.inventory().size(contents) - 1
-                            || (slot >= iterator.getEndPosition() && iterator.getEndPosition() != -1)) {
-                        itemsSet = 0;
-                        slot = startSlot;
-                        page++;
-                        j = -1;
-                        break;
-                    }
+                              int startSlot,
+                              @Nonnegative int sourceSize) throws IllegalStateException {
+        if (data.isEmpty() && sourceSize == 0) return;
 
-                    if (lineChar != pattern.getAttachedChar()) {
-                        slot++;
-                        continue;
-                    }
+        int[] slots = findPatternSlots(pagination, iterator, pattern, contents, startSlot == -1 ? 0 : startSlot);
+        if (slots.length == 0)
+            throw new IllegalStateException("The pattern does not provide a slot for the items. Check the attached frame and the end position of your SlotIterator.");
 
-                    if (get(data, slot, page) != null && !iterator.isOverride()) {
-                        slot++;
-                        continue;
-                    }
+        for (int i = 0; i < data.size(); i++)
+            pagination.place(data.get(i), slots[i % slots.length], i / slots.length);
 
-                    List<IntelligentItemData> dataList = data.stream()
-                            .filter(item -> item.getModifiedSlot() == -1)
-                            .collect(Collectors.toList());
+        if (sourceSize == 0) return;
 
-                    if (dataList.isEmpty())
-                        break;
+        int[] sourceSlots = new int[sourceSize];
+        int[] sourcePages = new int[sourceSize];
+        for (int i = 0; i < sourceSize; i++) {
+            int position = data.size() + i;
+            sourceSlots[i] = slots[position % slots.length];
+            sourcePages[i] = position / slots.length;
+        }
+        pagination.setSourceLayout(sourceSlots, sourcePages);
+    }
 
-                    IntelligentItemData itemData = dataList.get(0);
+    /**
+     * Calculates the slots of a single page that are covered by the attached frame of the pattern.
+     *
+     * @param pagination The pagination object that contains the items per page.
+     * @param iterator   The iterator that will be used to iterate through the slots.
+     * @param pattern    The pattern that will be applied to the inventory.
+     * @param contents   The InventoryContents object that contains all the information about the inventory.
+     * @param startSlot  The slot where the pagination starts.
+     * @return The slots in the order in which they are filled.
+     */
+    private int @NotNull [] findPatternSlots(@NotNull Pagination pagination,
+                                             @NotNull SlotIterator iterator,
+                                             @NotNull SlotIteratorPattern pattern,
+                                             @NotNull InventoryContents contents,
+                                             @Nonnegative int startSlot) {
+        StringBuilder builder = new StringBuilder();
+        for (String line : pattern.getLines())
+            builder.append(line);
 
-                    int index = data.indexOf(itemData);
+        String frames = builder.toString();
+        if (frames.isEmpty()) return new int[0];
 
-                    itemData.setPage(page);
-                    itemData.setModifiedSlot(slot);
+        int endPosition = iterator.getEndPosition();
+        int maxItems = endPosition == -1 ? pagination.getItemsPerPage() : Integer.MAX_VALUE;
+        int lastSlot = pagination.inventory().size(contents) - 1;
 
-                    data.set(index, itemData);
-                    itemsSet++;
-                    slot++;
-                }
-            }
-        } while (data.stream().anyMatch(item -> item.getModifiedSlot() == -1));
+        int[] slots = new int[Math.max(0, lastSlot - startSlot + 1)];
+        int found = 0;
+
+        for (int slot = startSlot, frame = 0; slot <= lastSlot && found < maxItems; slot++, frame++) {
+            if (endPosition != -1 && slot >= endPosition) break;
+            if (frames.charAt(frame % frames.length()) != pattern.getAttachedChar()) continue;
+
+            slots[found++] = slot;
+        }
+
+        return Arrays.copyOf(slots, found);
     }
 
     /**
@@ -1761,8 +2152,10 @@ public class RyseInventory {
             this.ryseInventory.ignoreClickEvent.addAll(builder.ryseInventory.ignoreClickEvent);
             this.ryseInventory.closeReasons.addAll(builder.ryseInventory.closeReasons);
             this.ryseInventory.fixedPageSize = builder.ryseInventory.fixedPageSize;
-            this.ryseInventory.ignoredSlotsWithEvents = builder.ryseInventory.ignoredSlotsWithEvents;
+            this.ryseInventory.ignoredSlotsWithEvents = new HashMap<>(builder.ryseInventory.ignoredSlotsWithEvents);
             this.ryseInventory.updateTask = builder.ryseInventory.updateTask;
+            this.ryseInventory.sharedView = builder.ryseInventory.sharedView;
+            this.ryseInventory.broadcastAnimations = builder.ryseInventory.broadcastAnimations;
         }
 
         public @NotNull Builder newInstance() {
@@ -1774,6 +2167,38 @@ public class RyseInventory {
             return this;
         }
 
+        /**
+         * All players who have the same page open share one inventory. The inventory is only built once when it is
+         * opened for several players at the same time, e.g. with {@link RyseInventory#openAll()}. Changes made for
+         * one player are visible to all players of the page.
+         *
+         * @return A Builder object.
+         */
+        public @NotNull Builder sharedView() {
+            this.ryseInventory.sharedView = true;
+            return this;
+        }
+
+        /**
+         * Name, lore, material and title animations are played once for all players of the inventory. The first
+         * animation that is started for a slot (or for the title) computes the frames and shows them to every player on
+         * the same page. The same animation started for further players joins the running one instead of running a
+         * second time.
+         * <p>
+         * Animations that differ from player to player need the default mode, in which every player has their own
+         * animations.
+         * <p>
+         * The animations keep running while players open and close the inventory, and are removed once the last
+         * player closes it. Since all players share one animation, stopping it through the animator of any player
+         * stops it for everyone.
+         *
+         * @return A Builder object.
+         */
+        public @NotNull Builder broadcastAnimations() {
+            this.ryseInventory.broadcastAnimations = true;
+            return this;
+        }
+
         /**
          * This function disables the update task.
          *
@@ -1884,7 +2309,7 @@ public class RyseInventory {
          * @return The Inventory Builder to set additional options.
          */
         public @NotNull Builder options(InventoryOptions @NotNull ... options) {
-            this.ryseInventory.options.addAll(new ArrayList<>(Arrays.asList(options)));
+            this.ryseInventory.options.addAll(Arrays.asList(options));
             return this;
         }
 
@@ -1912,7 +2337,7 @@ public class RyseInventory {
          * @return The Inventory Builder to set additional options.
          */
         public @NotNull Builder close(CloseReason @NotNull ... reasons) {
-            this.ryseInventory.closeReasons.addAll(new ArrayList<>(Arrays.asList(reasons)));
+            this.ryseInventory.closeReasons.addAll(Arrays.asList(reasons));
             return this;
         }
 
@@ -2228,13 +2653,14 @@ public class RyseInventory {
         }
 
         /**
-         * Adds its own event to the inventory.
+         * Adds its own event to the inventory. Several events can be added for the same event class.
          *
          * @param event What kind of event
          * @return The Inventory Builder to set additional options.
          */
         public @NotNull Builder listener(@NotNull EventCreator<? extends Event> event) {
             this.ryseInventory.events.add(event);
+            this.ryseInventory.eventIndex = null;
             return this;
         }
 
@@ -2245,7 +2671,7 @@ public class RyseInventory {
          * @return The Inventory Builder to set additional options.
          */
         public @NotNull Builder ignoreClickEvent(DisabledInventoryClick @NotNull ... clicks) {
-            this.ryseInventory.ignoreClickEvent.addAll(new ArrayList<>(Arrays.asList(clicks)));
+            this.ryseInventory.ignoreClickEvent.addAll(Arrays.asList(clicks));
             return this;
         }
 
@@ -2256,7 +2682,7 @@ public class RyseInventory {
          * @return The Inventory Builder to set additional options.
          */
         public @NotNull Builder ignoreEvents(DisabledEvents @NotNull ... events) {
-            this.ryseInventory.disabledEvents.addAll(new ArrayList<>(Arrays.asList(events)));
+            this.ryseInventory.disabledEvents.addAll(Arrays.asList(events));
             return this;
         }
 